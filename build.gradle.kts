@@ -13,6 +13,9 @@ plugins {
      */
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.79.0"
+
+    // Microbenchmarks, found in src/jmh: launch them with the "jmh" task
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories { // Where to search for dependencies
@@ -56,6 +59,25 @@ application {
     mainClass.set("mindescape.app.MindEscape")
 }
 
+// Runs a new game without any view, driven by a script or a recorded session:
+// ./gradlew runHeadless --args="<script or log> [max ticks]"
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs a new game without any view, driven by a script or a recorded session, and reports ticks/s"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("mindescape.app.HeadlessMindEscape")
+    systemProperty("java.awt.headless", "true")
+}
+
+jmh {
+    // Short runs, enough to spot regressions on every change; results are written as JSON
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
@@ -0,0 +1,100 @@
+package mindescape.model.saveload.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import mindescape.model.world.api.World;
+import mindescape.model.world.rooms.impl.SyntheticRooms;
+
+/**
+ * Measures saving and loading worlds of different sizes through {@link SaveManager}.
+ * <p>
+ * The saves, and their catalog, are written to a temporary directory, which is deleted at the end,
+ * so the benchmark leaves the saves of the player alone. The directory is chosen before
+ * {@link SaveManager} is first used, which in a forked benchmark is by this class only.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveManagerBenchmark {
+
+    private static final long SEED = 42;
+    private static final String USERNAME = "jmh-save-benchmark";
+    private static final Path SAVES = createSaves();
+
+    @Param({ "4", "16", "64" })
+    private int rooms;
+
+    @Param({ "16", "256" })
+    private int objects;
+
+    private World world;
+    private File saveFile;
+
+    /**
+     * Builds the world and saves it once, so that there is a file to load.
+     */
+    @Setup
+    public void setUp() {
+        world = SyntheticRooms.world(USERNAME, rooms, objects, SEED);
+        SaveManager.saveGameStatus(world);
+        saveFile = SaveManager.getSaveFile(USERNAME).toFile();
+    }
+
+    /**
+     * Deletes the saves written, along with their catalog.
+     *
+     * @throws IOException if the directory of the saves cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        SaveManager.getCatalog().close();
+        try (Stream<Path> files = Files.walk(SAVES)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Saves the world.
+     */
+    @Benchmark
+    public void save() {
+        SaveManager.saveGameStatus(world);
+    }
+
+    /**
+     * Loads the world.
+     * @return the loaded world
+     */
+    @Benchmark
+    public World load() {
+        return SaveManager.loadGameStatus(saveFile);
+    }
+
+    private static Path createSaves() {
+        try {
+            final Path saves = Files.createTempDirectory("mindescape-saves");
+            System.setProperty(SaveManager.SAVES_PROPERTY, saves.toString());
+            return saves;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
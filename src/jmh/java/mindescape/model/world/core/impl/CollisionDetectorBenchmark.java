@@ -0,0 +1,87 @@
+package mindescape.model.world.core.impl;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import mindescape.model.world.core.api.CollisionDetector;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+
+/**
+ * Compares a collision check scanning every object of a room with one
+ * restricted to the candidates returned by a {@link UniformGridIndex}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionDetectorBenchmark {
+
+    private static final int ROOM_SIZE = 1024;
+    private static final int PROBES = 1024;
+    private static final long SEED = 42;
+
+    @Param({ "16", "256", "1024" })
+    private int objects;
+
+    private final CollisionDetector detector = new CollisionDetectorImpl();
+    private final Set<GameObject> roomObjects = new HashSet<>();
+    private final Point2D[] probes = new Point2D[PROBES];
+    private SpatialIndex index;
+    private int next;
+
+    /**
+     * Fills a room with objects of the size of a tile at random positions.
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        final int cells = ROOM_SIZE / (int) Dimensions.TILE.width();
+        index = new UniformGridIndex(new Dimensions(ROOM_SIZE, ROOM_SIZE), Dimensions.TILE);
+        for (int i = 0; i < objects; i++) {
+            final GameObject object = new GameObjectImpl(
+                new Point2D(random.nextInt(cells) * Dimensions.TILE.width(), random.nextInt(cells) * Dimensions.TILE.height()),
+                "object" + i, Dimensions.TILE);
+            roomObjects.add(object);
+            index.insert(object);
+        }
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = new Point2D(random.nextInt(ROOM_SIZE - cells), random.nextInt(ROOM_SIZE - cells));
+        }
+    }
+
+    /**
+     * Checks the collisions against every object of the room.
+     * @return the colliding object, if any
+     */
+    @Benchmark
+    public Optional<GameObject> streamScan() {
+        return detector.collisions(nextProbe(), Dimensions.TILE, roomObjects);
+    }
+
+    /**
+     * Checks the collisions against the objects in the cells overlapped by the probe.
+     * @return the colliding object, if any
+     */
+    @Benchmark
+    public Optional<GameObject> gridIndex() {
+        final Point2D probe = nextProbe();
+        return detector.collisions(probe, Dimensions.TILE, index.query(probe, Dimensions.TILE));
+    }
+
+    private Point2D nextProbe() {
+        next = (next + 1) % PROBES;
+        return probes[next];
+    }
+}
@@ -0,0 +1,63 @@
+package mindescape.model.world.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import mindescape.model.world.core.api.Movement;
+import mindescape.model.world.rooms.impl.SyntheticRooms;
+
+/**
+ * Measures the operations {@link WorldImpl} runs on every tick of the game loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorldBenchmark {
+
+    private static final long SEED = 42;
+    private static final int STEPS = 8;
+
+    @Param({ "4", "16", "64" })
+    private int rooms;
+
+    @Param({ "16", "256" })
+    private int objects;
+
+    private WorldImpl world;
+    private int step;
+
+    /**
+     * Builds the world.
+     */
+    @Setup
+    public void setUp() {
+        world = SyntheticRooms.world("benchmark", rooms, objects, SEED);
+    }
+
+    /**
+     * Moves the player back and forth around the center of the first room,
+     * checking the collisions of every step.
+     * @return the world, so the move cannot be optimized away
+     */
+    @Benchmark
+    public WorldImpl movePlayer() {
+        step = (step + 1) % (2 * STEPS);
+        world.movePlayer(step < STEPS ? Movement.RIGHT : Movement.LEFT);
+        return world;
+    }
+
+    /**
+     * Checks whether the game has been won, which the loop does every tick.
+     * @return whether the game has been won
+     */
+    @Benchmark
+    public boolean hasWon() {
+        return world.hasWon();
+    }
+}
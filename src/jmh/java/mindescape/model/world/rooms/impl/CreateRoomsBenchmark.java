@@ -0,0 +1,70 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Measures {@link RoomImpl#createRooms()} on the rooms shipped with the game, both parsing
+ * the map files from scratch and reusing the maps cached by {@link TiledMapRepository}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CreateRoomsBenchmark {
+
+    /**
+     * State emptying the cache of the maps before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Cold {
+        /**
+         * Empties the cache of the maps.
+         */
+        @Setup(Level.Invocation)
+        public void evictMaps() {
+            TiledMapRepository.clear();
+        }
+    }
+
+    /**
+     * State filling the cache of the maps once.
+     */
+    @State(Scope.Thread)
+    public static class Warm {
+        /**
+         * Parses the maps once.
+         */
+        @Setup(Level.Trial)
+        public void loadMaps() {
+            RoomImpl.createRooms();
+        }
+    }
+
+    /**
+     * Creates the rooms parsing every map file.
+     * @param cold the state emptying the cache
+     * @return the rooms
+     */
+    @Benchmark
+    public List<Room> cold(final Cold cold) {
+        return RoomImpl.createRooms();
+    }
+
+    /**
+     * Creates the rooms from the cached maps.
+     * @param warm the state filling the cache
+     * @return the rooms
+     */
+    @Benchmark
+    public List<Room> warm(final Warm warm) {
+        return RoomImpl.createRooms();
+    }
+}
@@ -0,0 +1,88 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.noninteractable.impl.NonInteractableImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Builds rooms and worlds which are not backed by map files, so that benchmarks
+ * can choose their size.
+ */
+public final class SyntheticRooms {
+
+    /**
+     * The size, in tiles, of the side of the rooms.
+     */
+    public static final int ROOM_TILES = 32;
+
+    private static final double TILE = Dimensions.TILE.width();
+
+    private SyntheticRooms() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Creates a square room whose border is walled, filled with objects of the size of a tile
+     * at random positions, leaving free the tile at the center of the room.
+     *
+     * @param name the name of the room
+     * @param objects the number of objects besides the walls
+     * @param random the source of the positions
+     * @return the room
+     */
+    public static Room room(final String name, final int objects, final Random random) {
+        final Room room = new RoomImpl(name, name + ".tmx", new Dimensions(ROOM_TILES * TILE, ROOM_TILES * TILE));
+        for (int i = 0; i < ROOM_TILES; i++) {
+            room.addGameObject(wall(i, 0));
+            room.addGameObject(wall(i, ROOM_TILES - 1));
+            room.addGameObject(wall(0, i));
+            room.addGameObject(wall(ROOM_TILES - 1, i));
+        }
+        for (int i = 0; i < objects; i++) {
+            final int x = 1 + random.nextInt(ROOM_TILES - 2);
+            final int y = 1 + random.nextInt(ROOM_TILES - 2);
+            if (x != ROOM_TILES / 2 || y != ROOM_TILES / 2) {
+                room.addGameObject(new NonInteractableImpl(new Point2D(x * TILE, y * TILE), "object" + i, Dimensions.TILE));
+            }
+        }
+        return room;
+    }
+
+    /**
+     * Creates a world of synthetic rooms, the last one being the final room with the mirror
+     * checked by {@link WorldImpl#hasWon()}. The player stands at the center of the first room.
+     *
+     * @param username the name of the player
+     * @param rooms the number of rooms, at least one
+     * @param objects the number of objects of every room besides the walls
+     * @param seed the seed of the positions of the objects
+     * @return the world
+     */
+    public static WorldImpl world(final String username, final int rooms, final int objects, final long seed) {
+        final Random random = new Random(seed);
+        final List<Room> created = new ArrayList<>(rooms + 1);
+        for (int i = 0; i < rooms; i++) {
+            created.add(room("room" + i, objects, random));
+        }
+        final Room last = room("final", objects, random);
+        last.addGameObject(new LockedUnpickable("Mirror", new Point2D(TILE, TILE), Dimensions.TILE, 0, null));
+        created.add(last);
+        final Room first = created.get(0);
+        final Player player = new PlayerImpl(new Point2D(ROOM_TILES / 2 * TILE, ROOM_TILES / 2 * TILE),
+            username, Dimensions.TILE, first);
+        first.addGameObject(player);
+        return new WorldImpl(created, player);
+    }
+
+    private static NonInteractableImpl wall(final int x, final int y) {
+        return new NonInteractableImpl(new Point2D(x * TILE, y * TILE), "wall", Dimensions.TILE);
+    }
+}
@@ -0,0 +1,48 @@
+package mindescape.view.utils;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures scaling a room image to the size of the panel with {@link ImageTransformer#adapt}.
+ * No graphics configuration is used, so that the benchmark runs headless too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageTransformerBenchmark {
+
+    @Param({ "256", "512" })
+    private int size;
+
+    @Param({ "1.5", "3" })
+    private double scaling;
+
+    private final ImageTransformer transformer = new ImageTransformer();
+    private BufferedImage image;
+
+    /**
+     * Creates the image to scale.
+     */
+    @Setup
+    public void setUp() {
+        image = new BufferedImage(size, size, BufferedImage.TYPE_4BYTE_ABGR);
+    }
+
+    /**
+     * Scales the image.
+     * @return the scaled image
+     */
+    @Benchmark
+    public BufferedImage adapt() {
+        return transformer.adapt(image, scaling, null);
+    }
+}
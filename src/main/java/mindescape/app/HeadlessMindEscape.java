@@ -0,0 +1,60 @@
+package mindescape.app;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import mindescape.controller.core.api.InputScript;
+import mindescape.controller.core.impl.InputLogCodec;
+import mindescape.controller.core.impl.InputScriptImpl;
+import mindescape.controller.worldcontroller.api.HeadlessRuntime;
+import mindescape.controller.worldcontroller.impl.HeadlessRuntimeImpl;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.utils.metrics.GameMetrics;
+
+/**
+ * Runs a new game without any view, driven by a script or a recorded session, and reports the throughput
+ * of the model.
+ * <p>
+ * Usage: {@code HeadlessMindEscape <script or log> [max ticks]}; without a maximum the run lasts as long as
+ * the script. See {@link InputScriptImpl} for the format of the script and {@link InputLogCodec} for the one
+ * of the logs of recorded sessions, which are replayed for as long as they were recorded.
+ * </p>
+ */
+final class HeadlessMindEscape {
+
+    private static final Logger LOGGER = Logger.getLogger(HeadlessMindEscape.class.getName());
+    private static final String PLAYER = "headless";
+
+    private HeadlessMindEscape() {
+    }
+
+    /**
+     * The main method of the headless runtime.
+     *
+     * @param args the path of the script or of the log and, optionally, the maximum number of ticks to run
+     * @throws IOException if the script cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: HeadlessMindEscape <script or log> [max ticks]");
+        }
+        System.setProperty("java.awt.headless", "true");
+        final byte[] content = Files.readAllBytes(Path.of(args[0]));
+        final HeadlessRuntime runtime = new HeadlessRuntimeImpl(new WorldImpl(PLAYER));
+        final HeadlessRuntime.Result result;
+        if (InputLogCodec.isInputLog(ByteBuffer.wrap(content))) {
+            result = runtime.replay(InputLogCodec.decode(ByteBuffer.wrap(content)));
+        } else {
+            final InputScript script = InputScriptImpl.parse(new String(content, StandardCharsets.UTF_8).lines().toList());
+            result = runtime.run(script, args.length > 1 ? Long.parseLong(args[1]) : script.getLength());
+        }
+        LOGGER.info(() -> String.format("%d ticks in %d ms, %.0f ticks/s, %s", result.ticks(),
+            result.elapsed().toMillis(), result.ticksPerSecond(), result.won() ? "won" : "not won"));
+        GameMetrics.getRecorders().stream()
+            .filter(recorder -> recorder.getCount() > 0)
+            .forEach(recorder -> LOGGER.info(recorder::toString));
+    }
+}
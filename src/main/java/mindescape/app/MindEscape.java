@@ -1,6 +1,7 @@
 package mindescape.app;
 
 import mindescape.controller.maincontroller.impl.MainControllerImpl;
+import mindescape.utils.metrics.GameMetrics;
 
 /**
  * The main class of the application.
@@ -16,6 +17,7 @@ final class MindEscape {
      * @param args the command line arguments
      */
     public static void main(final String[] args) {
+        GameMetrics.register();
         new MainControllerImpl().start();
     }
 }
@@ -0,0 +1,29 @@
+package mindescape.controller.core.api;
+
+import mindescape.model.world.api.World;
+
+/**
+ * Builds in the background the controllers the player is likely to open next, e.g. those of the
+ * enigmas of the current room, so that opening them does not wait for their views to be built.
+ */
+public interface ControllerPreloader extends AutoCloseable {
+
+    /**
+     * Starts following a world: the controllers of the enigmas of its current room are built now
+     * and whenever the player enters another room. It has to be called before the world starts running.
+     *
+     * @param world the world
+     */
+    void warmUp(World world);
+
+    /**
+     * Stops following the world and drops the controllers not built yet.
+     */
+    void cancel();
+
+    /**
+     * Cancels the pending builds and stops the thread building the controllers.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,74 @@
+package mindescape.controller.core.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A game loop, advancing a simulation in fixed steps and rendering it, on a single thread which
+ * it owns for its whole life: pausing and resuming the loop never creates another thread.
+ */
+public interface GameLoop {
+
+    /**
+     * The states of a loop.
+     */
+    enum State {
+        /**
+         * The loop has not been started yet.
+         */
+        NEW,
+        /**
+         * The loop is advancing the simulation.
+         */
+        RUNNING,
+        /**
+         * The thread of the loop is waiting to be resumed, still running the queued tasks.
+         */
+        PAUSED,
+        /**
+         * The loop has ended for good.
+         */
+        STOPPED
+    }
+
+    /**
+     * Starts the thread of the loop or, if the loop is paused, resumes it.
+     *
+     * @throws IllegalStateException if the loop has been stopped
+     */
+    void start();
+
+    /**
+     * Pauses the loop, which stops advancing the simulation until it is resumed, e.g. while
+     * another screen is shown. Nothing happens unless the loop is running.
+     */
+    void pause();
+
+    /**
+     * Resumes a paused loop, without catching up with the time it has been paused.
+     * Nothing happens unless the loop is paused.
+     */
+    void resume();
+
+    /**
+     * Stops the loop for good and waits for its thread to end, unless called by the loop itself.
+     */
+    void stop();
+
+    /**
+     * Returns the state of the loop.
+     *
+     * @return the state of the loop
+     */
+    State getState();
+
+    /**
+     * Runs a task on the thread of the loop, between two frames, also while the loop is paused;
+     * if the loop has not been started or it has been stopped, the task is run on the calling thread.
+     *
+     * @param <T> the type of the result of the task
+     * @param task the task
+     * @return a future completed with the result of the task
+     */
+    <T> CompletableFuture<T> runOnLoop(Supplier<T> task);
+}
@@ -0,0 +1,55 @@
+package mindescape.controller.core.api;
+
+/**
+ * Buffer of the user inputs, filled by the view and drained by the game loop.
+ * <p>
+ * Continuous inputs are exposed as the set of the keys currently held down, while the other
+ * inputs are queued once per key press, so none of them is lost between two ticks.
+ * </p>
+ */
+public interface InputBuffer {
+
+    /**
+     * Records that the key of an input has been pressed.
+     * If the input is not continuous and its key was not already held down, the input is queued.
+     * @param input the input pressed
+     */
+    void press(UserInput input);
+
+    /**
+     * Records that the key of an input has been released.
+     * @param input the input released
+     */
+    void release(UserInput input);
+
+    /**
+     * Releases all the held keys, e.g. because the view lost the focus and will not receive
+     * their release.
+     */
+    void releaseAll();
+
+    /**
+     * Determines if the key of an input is currently held down.
+     * @param input the input
+     * @return true if the key is held down, false otherwise
+     */
+    boolean isHeld(UserInput input);
+
+    /**
+     * Queues an input to be handled once.
+     * @param input the input to queue
+     * @return true if the input has been queued, false if the queue is full
+     */
+    boolean offer(UserInput input);
+
+    /**
+     * Removes the oldest queued input.
+     * @return the oldest queued input, or null if the queue is empty
+     */
+    UserInput poll();
+
+    /**
+     * Releases all the held keys and discards the queued inputs.
+     */
+    void clear();
+}
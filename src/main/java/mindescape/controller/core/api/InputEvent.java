@@ -0,0 +1,62 @@
+package mindescape.controller.core.api;
+
+import java.util.Objects;
+
+/**
+ * An input given to the game loop at a given tick: a key pressed or released, or an input queued
+ * to be handled once.
+ *
+ * @param tick the tick the event is applied at, counted from the start of the run
+ * @param input the input
+ * @param action what happens to the input
+ */
+public record InputEvent(long tick, UserInput input, Action action) {
+
+    /**
+     * What happens to the input of an event, matching the operations of an {@link InputBuffer}.
+     */
+    public enum Action {
+        /**
+         * The key of the input is pressed.
+         */
+        PRESS,
+        /**
+         * The key of the input is released.
+         */
+        RELEASE,
+        /**
+         * The input is queued to be handled once, whether or not its key is held.
+         */
+        QUEUE
+    }
+
+    /**
+     * Constructs an event.
+     *
+     * @param tick the tick the event is applied at, counted from the start of the run
+     * @param input the input
+     * @param action what happens to the input
+     * @throws IllegalArgumentException if the tick is negative
+     */
+    public InputEvent {
+        if (tick < 0) {
+            throw new IllegalArgumentException("Negative tick: " + tick);
+        }
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(action);
+    }
+
+    /**
+     * Applies the event to a buffer, as the view would when the key is pressed or released.
+     *
+     * @param buffer the buffer
+     */
+    public void applyTo(final InputBuffer buffer) {
+        switch (action) {
+            case PRESS -> buffer.press(input);
+            case RELEASE -> buffer.release(input);
+            case QUEUE -> buffer.offer(input);
+            default -> throw new IllegalStateException("Unknown action: " + action);
+        }
+    }
+}
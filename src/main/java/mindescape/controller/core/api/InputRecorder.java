@@ -0,0 +1,32 @@
+package mindescape.controller.core.api;
+
+/**
+ * Collects the inputs applied by the game loop, and the seeds of the random choices of the game,
+ * into an {@link InputRecording}.
+ */
+public interface InputRecorder {
+
+    /**
+     * Records an input applied by the game loop. Events are recorded in the order of their ticks.
+     *
+     * @param event the event
+     */
+    void record(InputEvent event);
+
+    /**
+     * Records the seed of a random choice of the game, replacing any previous seed of the same source.
+     *
+     * @param source the name of what made the choice, e.g. an enigma
+     * @param seed the seed
+     */
+    void recordSeed(String source, long seed);
+
+    /**
+     * Ends the recording.
+     *
+     * @param length the number of ticks recorded
+     * @return the recording
+     * @throws IllegalArgumentException if an event has been recorded at or after the given length
+     */
+    InputRecording finish(long length);
+}
@@ -0,0 +1,55 @@
+package mindescape.controller.core.api;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded session: the inputs the game loop applied, stamped with the tick they were applied at,
+ * and the seeds of the random choices of the game, so that the session can be replayed exactly.
+ *
+ * @param length the number of ticks recorded
+ * @param events the events, ordered by tick, counted from the start of the recording
+ * @param seeds the seeds of the random choices, by the name of what made them, e.g. an enigma
+ */
+public record InputRecording(long length, List<InputEvent> events, Map<String, Long> seeds) implements InputScript {
+
+    /**
+     * Constructs a recording.
+     *
+     * @param length the number of ticks recorded
+     * @param events the events, ordered by tick, counted from the start of the recording
+     * @param seeds the seeds of the random choices, by the name of what made them, e.g. an enigma
+     * @throws IllegalArgumentException if the events are not ordered by tick or not within the length
+     */
+    public InputRecording {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        events = List.copyOf(events);
+        seeds = Map.copyOf(seeds);
+        for (int i = 1; i < events.size(); i++) {
+            if (events.get(i).tick() < events.get(i - 1).tick()) {
+                throw new IllegalArgumentException("Events not ordered by tick at " + i);
+            }
+        }
+        if (!events.isEmpty() && events.get(events.size() - 1).tick() >= length) {
+            throw new IllegalArgumentException("Events beyond the length of " + length + " ticks");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<InputEvent> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLength() {
+        return this.length;
+    }
+}
@@ -0,0 +1,24 @@
+package mindescape.controller.core.api;
+
+import java.util.List;
+
+/**
+ * A stream of inputs stamped with the tick they are applied at, which drives the world
+ * in place of the keyboard, e.g. a scripted scenario or a recorded session.
+ */
+public interface InputScript {
+
+    /**
+     * Returns the events of the script, ordered by tick.
+     *
+     * @return the events
+     */
+    List<InputEvent> getEvents();
+
+    /**
+     * Returns the number of ticks the script spans, that is the tick of its last event plus one.
+     *
+     * @return the length of the script in ticks, zero if it is empty
+     */
+    long getLength();
+}
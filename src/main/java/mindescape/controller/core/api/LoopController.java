@@ -1,8 +1,36 @@
 package mindescape.controller.core.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * The LoopController interface defines the contract for controlling the game loop.
- * It extends the Controller interface and provides methods to start and stop the game loop.
+ * It extends the Controller interface and provides methods to start, pause and stop the game loop.
  */
 public interface LoopController extends Controller {
+
+    /**
+     * Runs a task on the thread of the loop, between two ticks, so that it sees the model
+     * in a consistent state, also while the loop is paused; if the loop has not been started
+     * or it has been stopped, the task is run on the calling thread.
+     *
+     * @param <T> the type of the result of the task
+     * @param task the task
+     * @return a future completed with the result of the task
+     */
+    <T> CompletableFuture<T> runOnLoop(Supplier<T> task);
+
+    /**
+     * Pauses the loop, e.g. because another controller is shown: its thread waits, without
+     * advancing the game, until the controller is started again, so that switching controllers
+     * never leaves two loops running.
+     */
+    @Override
+    void quit();
+
+    /**
+     * Stops the loop for good, e.g. because the game is over, and waits for its thread to end
+     * unless called by the loop itself.
+     */
+    void stop();
 }
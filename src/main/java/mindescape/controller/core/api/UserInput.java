@@ -9,26 +9,40 @@ public enum UserInput {
     /**
      * Represents the user moving up.
      */
-    UP,
+    UP(true),
     /**
      * Represents the user moving down.
      */
-    DOWN,
+    DOWN(true),
     /**
      * Represents the user moving left.
      */
-    LEFT,
+    LEFT(true),
     /**
      * Represents the user moving right.
      */
-    RIGHT,
+    RIGHT(true),
     /**
      * Represents the user interacting with an object.
      */
-    INTERACT,
+    INTERACT(false),
     /**
      * Represents the user opening/closing the inventory.
      */
-    INVENTORY;
+    INVENTORY(false);
 
+    private final boolean continuous;
+
+    UserInput(final boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    /**
+     * Determines if the input keeps acting as long as its key is held down,
+     * as opposed to acting once per key press.
+     * @return true if the input is continuous, false otherwise
+     */
+    public boolean isContinuous() {
+        return continuous;
+    }
 }
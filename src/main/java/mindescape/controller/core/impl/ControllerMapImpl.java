@@ -1,14 +1,18 @@
 package mindescape.controller.core.impl;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.ControllerMap;
 import mindescape.controller.core.api.ControllerName;
 
 /**
  * Implementation of the ControllerMap interface that manages a collection of controllers.
+ * <p>
+ * The map can be used by several threads, e.g. the game loop opening an enigma while its controller
+ * is being preloaded; to check and add a controller atomically, callers hold the lock of the map.
+ * </p>
  */
 public final class ControllerMapImpl implements ControllerMap {
 
@@ -18,7 +22,7 @@ public final class ControllerMapImpl implements ControllerMap {
      * Default constructor that initializes an empty controller map.
      */
     public ControllerMapImpl() {
-        this.controllers = new HashMap<>();
+        this.controllers = new ConcurrentHashMap<>();
     }
 
     /**
@@ -26,7 +30,7 @@ public final class ControllerMapImpl implements ControllerMap {
      * @param controllersMap The initial map of controllers.
      */
     public ControllerMapImpl(final Map<String, Controller> controllersMap) {
-        this.controllers = new HashMap<>(controllersMap);
+        this.controllers = new ConcurrentHashMap<>(controllersMap);
     }
 
     /**
@@ -0,0 +1,260 @@
+package mindescape.controller.core.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.Controller;
+import mindescape.controller.core.api.ControllerMap;
+import mindescape.controller.core.api.ControllerName;
+import mindescape.controller.core.api.ControllerPreloader;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.utils.GameExecutors;
+
+/**
+ * Implementation of the ControllerPreloader interface.
+ * <p>
+ * The enigmas to prepare are found by the thread running the world, when it is warmed up and
+ * when the player changes room. A single background thread decodes the resources of their
+ * controllers, e.g. images, then each controller is built on the Event Dispatch Thread, as Swing
+ * requires, and added to the {@link ControllerMap} shared with the main controller, which builds on
+ * demand the controllers not ready yet. The lock of the map is only held to check and change it,
+ * never while a controller is built, so a slow build does not hold up the main controller; a
+ * controller built meanwhile by the main controller is kept and the preloaded one dropped.
+ * At most {@code capacity} preloaded controllers are kept, the least recent being dropped first
+ * unless it is shown, and the controller of an enigma is dropped as soon as the enigma is solved,
+ * as it cannot be opened anymore, unless it is shown: it is then dropped with the least recent ones.
+ * </p>
+ */
+public final class ControllerPreloaderImpl implements ControllerPreloader {
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private final Logger logger = Logger.getLogger(ControllerPreloaderImpl.class.getName());
+    private final ControllerMap controllers;
+    private final Consumer<ControllerName> resources;
+    private final BiFunction<ControllerName, Enigma, Controller> builder;
+    private final Supplier<Controller> current;
+    private final int capacity;
+    private final Set<ControllerName> preloaded = new LinkedHashSet<>();
+    private final GameEventListener listener = this::onEvent;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(GameExecutors.ioThreads("controller-preloader"));
+    private volatile World world;
+    private long generation;
+
+    /**
+     * Constructs a preloader keeping at most four preloaded controllers, with no resources to decode.
+     *
+     * @param controllers the map the controllers are added to
+     * @param builder the function building the controller with the given name, without adding it to the map
+     * @param current the supplier of the controller currently shown, which is never dropped
+     */
+    public ControllerPreloaderImpl(final ControllerMap controllers,
+            final BiFunction<ControllerName, Enigma, Controller> builder, final Supplier<Controller> current) {
+        this(controllers, name -> { }, builder, current, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a preloader keeping at most four preloaded controllers.
+     *
+     * @param controllers the map the controllers are added to
+     * @param resources the function decoding the resources of the controller with the given name,
+     *     called by the background thread
+     * @param builder the function building the controller with the given name, without adding it to the map,
+     *     called by the Event Dispatch Thread
+     * @param current the supplier of the controller currently shown, which is never dropped
+     */
+    public ControllerPreloaderImpl(final ControllerMap controllers, final Consumer<ControllerName> resources,
+            final BiFunction<ControllerName, Enigma, Controller> builder, final Supplier<Controller> current) {
+        this(controllers, resources, builder, current, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a preloader.
+     *
+     * @param controllers the map the controllers are added to
+     * @param resources the function decoding the resources of the controller with the given name,
+     *     called by the background thread
+     * @param builder the function building the controller with the given name, without adding it to the map,
+     *     called by the Event Dispatch Thread
+     * @param current the supplier of the controller currently shown, which is never dropped
+     * @param capacity the maximum number of preloaded controllers kept
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The controller map is shared with the main controller on purpose")
+    public ControllerPreloaderImpl(final ControllerMap controllers, final Consumer<ControllerName> resources,
+            final BiFunction<ControllerName, Enigma, Controller> builder, final Supplier<Controller> current,
+            final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.controllers = Objects.requireNonNull(controllers);
+        this.resources = Objects.requireNonNull(resources);
+        this.builder = Objects.requireNonNull(builder);
+        this.current = Objects.requireNonNull(current);
+        this.capacity = capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warmUp(final World world) {
+        cancel();
+        this.world = Objects.requireNonNull(world);
+        world.addGameEventListener(listener);
+        preload(world.getCurrentRoom());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        if (this.world != null) {
+            this.world.removeGameEventListener(listener);
+            this.world = null;
+        }
+        synchronized (controllers) {
+            generation++;
+            preloaded.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void onEvent(final GameEvent event) {
+        if (event.type() == GameEventType.ROOM_CHANGED && this.world != null) {
+            preload(this.world.getCurrentRoom());
+        } else if (event.type() == GameEventType.SOLVED) {
+            final ControllerName name = ControllerName.fromString(event.source());
+            if (name != null) {
+                final Controller shown = current.get();
+                synchronized (controllers) {
+                    if (controllers.containsController(name) && controllers.findController(name) == shown) {
+                        preloaded.add(name);
+                    } else {
+                        preloaded.remove(name);
+                        controllers.removeController(name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the unsolved enigmas of a room, on the thread changing the world, and schedules
+     * the preparation of their controllers.
+     */
+    private void preload(final Room room) {
+        final List<Enigma> enigmas = new ArrayList<>();
+        for (final GameObject object : room.getGameObjects()) {
+            if (object instanceof UnpickableWithEnigma holder && holder.getEnigma() != null
+                    && !holder.getEnigma().isSolved()) {
+                enigmas.add(holder.getEnigma());
+            }
+        }
+        final long scheduled;
+        synchronized (controllers) {
+            scheduled = generation;
+        }
+        for (final Enigma enigma : enigmas) {
+            final ControllerName name = ControllerName.fromString(enigma.getName());
+            if (name == null) {
+                continue;
+            }
+            try {
+                executor.execute(() -> prepare(name, enigma, scheduled));
+            } catch (final RejectedExecutionException e) {
+                logger.fine(() -> "Preloader closed, " + name.getName() + " not preloaded");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Decodes the resources of a controller, on the background thread, then has it built by the
+     * Event Dispatch Thread.
+     */
+    private void prepare(final ControllerName name, final Enigma enigma, final long scheduled) {
+        if (!isWanted(name, enigma, scheduled)) {
+            return;
+        }
+        try {
+            resources.accept(name);
+        } catch (final RuntimeException e) {
+            logger.warning(() -> "Cannot decode the resources of " + name.getName() + ": " + e.getMessage());
+            return;
+        }
+        SwingUtilities.invokeLater(() -> build(name, enigma, scheduled));
+    }
+
+    private void build(final ControllerName name, final Enigma enigma, final long scheduled) {
+        if (!isWanted(name, enigma, scheduled)) {
+            return;
+        }
+        final Controller built;
+        try {
+            built = builder.apply(name, enigma);
+        } catch (final RuntimeException e) {
+            logger.warning(() -> "Cannot preload " + name.getName() + ": " + e.getMessage());
+            return;
+        }
+        final Controller shown = current.get();
+        synchronized (controllers) {
+            if (scheduled != generation || controllers.containsController(name)) {
+                return;
+            }
+            controllers.addController(built);
+            preloaded.add(name);
+            trim(shown);
+        }
+    }
+
+    /**
+     * Checks if the controller of an enigma is still to be preloaded.
+     */
+    private boolean isWanted(final ControllerName name, final Enigma enigma, final long scheduled) {
+        synchronized (controllers) {
+            return scheduled == generation && !enigma.isSolved() && !controllers.containsController(name);
+        }
+    }
+
+    /**
+     * Drops the least recent preloaded controllers beyond the capacity, except the one shown.
+     */
+    private void trim(final Controller shown) {
+        final Iterator<ControllerName> eldest = preloaded.iterator();
+        while (preloaded.size() > capacity && eldest.hasNext()) {
+            final ControllerName name = eldest.next();
+            if (controllers.findController(name) != shown) {
+                eldest.remove();
+                controllers.removeController(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package mindescape.controller.core.impl;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import mindescape.controller.core.api.GameLoop;
+import mindescape.utils.GameExecutors;
+
+/**
+ * Implementation of the GameLoop interface.
+ * <p>
+ * The simulation advances in fixed steps of {@code tickDuration}, consuming the time
+ * accumulated since the last frame, so the speed of the game does not depend on how long
+ * a frame takes. When the machine cannot keep up, at most {@code MAX_FRAME_SKIP} ticks
+ * are run before a frame is rendered and the remaining backlog is dropped.
+ * </p>
+ * <p>
+ * The state is guarded by the monitor of the loop, which the thread of the loop waits on between
+ * frames and while paused, so that pausing, resuming, stopping and queueing a task take effect
+ * at once. The number of loop threads alive in the application is given by {@link #getActiveLoops()}.
+ * </p>
+ */
+public final class GameLoopImpl implements GameLoop {
+
+    private static final int MAX_FRAME_SKIP = 5;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long JOIN_TIMEOUT_MILLIS = 1000;
+    private static final AtomicInteger ACTIVE_LOOPS = new AtomicInteger();
+    private final Logger logger = Logger.getLogger(GameLoopImpl.class.getName());
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private final long tickDuration;
+    private final long frameDuration;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile State state = State.NEW;
+    private Thread thread;
+
+    /**
+     * Constructs a loop, not started yet.
+     *
+     * @param tick the step of the simulation
+     * @param render the rendering of a frame, given how far, as a fraction in [0, 1), the frame lies
+     *     between the previous and the last tick
+     * @param tickRate the number of simulation ticks per second
+     * @param frameRate the maximum number of frames rendered per second
+     * @throws IllegalArgumentException if any of the rates is not positive
+     */
+    public GameLoopImpl(final Runnable tick, final DoubleConsumer render, final int tickRate, final int frameRate) {
+        if (tickRate <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Tick and frame rates must be positive");
+        }
+        this.tick = Objects.requireNonNull(tick);
+        this.render = Objects.requireNonNull(render);
+        this.tickDuration = NANOS_PER_SECOND / tickRate;
+        this.frameDuration = NANOS_PER_SECOND / frameRate;
+    }
+
+    /**
+     * Returns the number of loop threads alive, which is one at most while a game is played.
+     *
+     * @return the number of active loops
+     */
+    public static int getActiveLoops() {
+        return ACTIVE_LOOPS.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() {
+        switch (this.state) {
+            case NEW -> {
+                this.state = State.RUNNING;
+                this.thread = GameExecutors.newTickThread(this::run);
+                this.thread.start();
+            }
+            case PAUSED -> resume();
+            case RUNNING -> { }
+            default -> throw new IllegalStateException("The loop has been stopped");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (this.state == State.RUNNING) {
+            this.state = State.PAUSED;
+            notifyAll();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (this.state == State.PAUSED) {
+            this.state = State.RUNNING;
+            notifyAll();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        final Thread owner;
+        synchronized (this) {
+            this.state = State.STOPPED;
+            notifyAll();
+            owner = this.thread;
+        }
+        if (owner != null && owner != Thread.currentThread()) {
+            try {
+                owner.join(JOIN_TIMEOUT_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (owner.isAlive()) {
+                logger.warning("The game loop did not end in time");
+            }
+        }
+        runTasks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public State getState() {
+        return this.state;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the loop stops before running the task, it is run by the calling thread or by the loop
+     * on its way out, whichever sees it first.
+     * </p>
+     */
+    @Override
+    public <T> CompletableFuture<T> runOnLoop(final Supplier<T> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        this.tasks.add(() -> {
+            try {
+                result.complete(task.get());
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        final boolean threadAlive;
+        synchronized (this) {
+            threadAlive = this.state == State.RUNNING || this.state == State.PAUSED;
+            notifyAll();
+        }
+        if (!threadAlive) {
+            runTasks();
+        }
+        return result;
+    }
+
+    private void run() {
+        ACTIVE_LOOPS.incrementAndGet();
+        try {
+            long previousTime = System.nanoTime();
+            long lag = 0;
+            boolean paused = false;
+            while (true) {
+                runTasks();
+                final State current = this.state;
+                if (current == State.STOPPED) {
+                    break;
+                } else if (current == State.PAUSED) {
+                    paused = true;
+                    awaitResume();
+                    continue;
+                } else if (paused) {
+                    paused = false;
+                    previousTime = System.nanoTime();
+                    lag = 0;
+                }
+                final long frameStart = System.nanoTime();
+                lag += frameStart - previousTime;
+                previousTime = frameStart;
+
+                int ticks = 0;
+                while (lag >= tickDuration && ticks < MAX_FRAME_SKIP && this.state == State.RUNNING) {
+                    tick.run();
+                    lag -= tickDuration;
+                    ticks++;
+                }
+                if (lag >= tickDuration) {
+                    lag %= tickDuration;
+                }
+
+                render.accept((double) lag / tickDuration);
+
+                while (awaitFrame(frameStart + frameDuration)) {
+                    runTasks();
+                }
+            }
+            runTasks();
+        } finally {
+            ACTIVE_LOOPS.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits while the loop is paused and no task is queued.
+     */
+    private synchronized void awaitResume() {
+        while (this.state == State.PAUSED && this.tasks.isEmpty()) {
+            waitQuietly(0);
+        }
+    }
+
+    /**
+     * Waits until the deadline of the next frame, unless the state changes or a task is queued.
+     *
+     * @return true if a task has been queued before the deadline, so it has to be run before waiting again
+     */
+    private synchronized boolean awaitFrame(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0 && this.state == State.RUNNING && this.tasks.isEmpty()) {
+            waitQuietly(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        return remaining > 0 && this.state == State.RUNNING && !this.tasks.isEmpty();
+    }
+
+    private void runTasks() {
+        Runnable task = this.tasks.poll();
+        while (task != null) {
+            task.run();
+            task = this.tasks.poll();
+        }
+    }
+
+    private void waitQuietly(final long nanos) {
+        try {
+            if (nanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            } else {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            // the state is checked again by the caller, only a stop ends the loop
+            logger.fine("Game loop interrupted");
+        }
+    }
+}
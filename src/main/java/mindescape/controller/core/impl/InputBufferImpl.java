@@ -0,0 +1,138 @@
+package mindescape.controller.core.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.UserInput;
+
+/**
+ * Lock-free implementation of {@link InputBuffer}.
+ * <p>
+ * The held keys are a bitmask, indexed by the ordinal of the inputs, updated atomically.
+ * The queued inputs are kept in a bounded ring buffer with a single producer, the thread
+ * dispatching the key events, and a single consumer, the game loop: neither of them locks
+ * or allocates.
+ * </p>
+ */
+public final class InputBufferImpl implements InputBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private final AtomicInteger held = new AtomicInteger();
+    private final AtomicReferenceArray<UserInput> queue;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Constructs a buffer queueing up to 16 inputs.
+     */
+    public InputBufferImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a buffer queueing up to the given number of inputs.
+     * @param capacity the maximum number of queued inputs, must be a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public InputBufferImpl(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.queue = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void press(final UserInput input) {
+        final int bit = bitOf(input);
+        final int previous = held.getAndAccumulate(bit, (current, b) -> current | b);
+        if ((previous & bit) == 0 && !input.isContinuous()) {
+            offer(input);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final UserInput input) {
+        held.getAndAccumulate(bitOf(input), (current, b) -> current & ~b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseAll() {
+        held.set(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isHeld(final UserInput input) {
+        return (held.get() & bitOf(input)) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * To be called by the producer thread only.
+     * </p>
+     */
+    @Override
+    public boolean offer(final UserInput input) {
+        final long t = tail.get();
+        if (t - head.get() > mask) {
+            return false;
+        }
+        queue.lazySet((int) (t & mask), input);
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * To be called by the consumer thread only.
+     * </p>
+     */
+    @Override
+    public UserInput poll() {
+        final long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+        final int slot = (int) (h & mask);
+        final UserInput input = queue.get(slot);
+        queue.lazySet(slot, null);
+        head.lazySet(h + 1);
+        return input;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * To be called by the consumer thread only.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        releaseAll();
+        UserInput input = poll();
+        while (input != null) {
+            input = poll();
+        }
+    }
+
+    private static int bitOf(final UserInput input) {
+        return 1 << input.ordinal();
+    }
+}
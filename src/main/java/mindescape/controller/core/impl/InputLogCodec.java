@@ -0,0 +1,148 @@
+package mindescape.controller.core.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.UserInput;
+import mindescape.model.saveload.codec.CorruptSaveException;
+import mindescape.model.saveload.codec.SaveInput;
+import mindescape.model.saveload.codec.SaveOutput;
+
+/**
+ * Encodes an {@link InputRecording} as a compact binary log.
+ * <p>
+ * The log holds {@link #MAGIC}, a version and the number of ticks recorded, then the seeds, each as its
+ * length delimited UTF-8 source and its zigzag varint value, then the events. An event takes two bytes
+ * most of the time: the ticks since the previous event as a varint, then the input and the action packed
+ * in a single varint.
+ * </p>
+ */
+public final class InputLogCodec {
+
+    private static final byte[] MAGIC = "MEIL".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final UserInput[] INPUTS = UserInput.values();
+    private static final InputEvent.Action[] ACTIONS = InputEvent.Action.values();
+
+    private InputLogCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Encodes a recording.
+     *
+     * @param recording the recording
+     * @return the log
+     */
+    public static ByteBuffer encode(final InputRecording recording) {
+        final SaveOutput out = new SaveOutput()
+            .writeBytes(MAGIC)
+            .writeVarint(VERSION)
+            .writeVarint(recording.length())
+            .writeVarint(recording.seeds().size());
+        for (final Map.Entry<String, Long> seed : recording.seeds().entrySet()) {
+            final byte[] source = seed.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeVarint(source.length).writeBytes(source).writeSignedVarint(seed.getValue());
+        }
+        out.writeVarint(recording.events().size());
+        long previous = 0;
+        for (final InputEvent event : recording.events()) {
+            out.writeVarint(event.tick() - previous)
+                .writeVarint((long) event.input().ordinal() * ACTIONS.length + event.action().ordinal());
+            previous = event.tick();
+        }
+        return out.toByteBuffer();
+    }
+
+    /**
+     * Checks if the data starts like a log, without consuming it.
+     *
+     * @param data the data
+     * @return true if the data starts like a log
+     */
+    public static boolean isInputLog(final ByteBuffer data) {
+        if (data.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data.get(data.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a log.
+     *
+     * @param data the log
+     * @return the recording
+     * @throws IllegalArgumentException if the data is not a valid log
+     */
+    public static InputRecording decode(final ByteBuffer data) {
+        if (!isInputLog(data)) {
+            throw new IllegalArgumentException("Not an input log");
+        }
+        try {
+            final SaveInput in = new SaveInput(data.duplicate().position(data.position() + MAGIC.length));
+            final long version = in.readVarint();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported input log version " + version);
+            }
+            final long length = in.readVarint();
+            final Map<String, Long> seeds = new LinkedHashMap<>();
+            for (long i = in.readVarint(); i > 0; i--) {
+                seeds.put(in.readLengthDelimited().remainingAsString(), in.readSignedVarint());
+            }
+            final long count = in.readVarint();
+            final List<InputEvent> events = new ArrayList<>();
+            long tick = 0;
+            for (long i = 0; i < count; i++) {
+                tick += in.readVarint();
+                final long code = in.readVarint();
+                if (code < 0 || code >= (long) INPUTS.length * ACTIONS.length) {
+                    throw new IllegalArgumentException("Unknown input " + code);
+                }
+                events.add(new InputEvent(tick, INPUTS[(int) (code / ACTIONS.length)],
+                    ACTIONS[(int) (code % ACTIONS.length)]));
+            }
+            return new InputRecording(length, events, seeds);
+        } catch (final CorruptSaveException e) {
+            throw new IllegalArgumentException("Truncated input log", e);
+        }
+    }
+
+    /**
+     * Writes a recording to a file, replacing it.
+     *
+     * @param recording the recording
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(final InputRecording recording, final Path file) throws IOException {
+        final ByteBuffer log = encode(recording);
+        final byte[] bytes = new byte[log.remaining()];
+        log.get(bytes);
+        Files.write(file, bytes);
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file
+     * @return the recording
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid log
+     */
+    public static InputRecording read(final Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+}
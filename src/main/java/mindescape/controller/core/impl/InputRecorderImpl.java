@@ -0,0 +1,43 @@
+package mindescape.controller.core.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputRecorder;
+import mindescape.controller.core.api.InputRecording;
+
+/**
+ * Implementation of {@link InputRecorder}, to be used by the thread of the game loop only.
+ */
+public final class InputRecorderImpl implements InputRecorder {
+
+    private final List<InputEvent> events = new ArrayList<>();
+    private final Map<String, Long> seeds = new LinkedHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final InputEvent event) {
+        this.events.add(Objects.requireNonNull(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordSeed(final String source, final long seed) {
+        this.seeds.put(Objects.requireNonNull(source), seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputRecording finish(final long length) {
+        return new InputRecording(length, this.events, this.seeds);
+    }
+}
@@ -0,0 +1,79 @@
+package mindescape.controller.core.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputScript;
+import mindescape.controller.core.api.UserInput;
+
+/**
+ * Implementation of {@link InputScript}, immutable.
+ * <p>
+ * Scripts can be written as text, one event per line in the form {@code <tick> press|release|queue <input>},
+ * e.g. {@code 120 press RIGHT}; blank lines and lines starting with {@code #} are ignored.
+ * </p>
+ */
+public final class InputScriptImpl implements InputScript {
+
+    private static final String COMMENT = "#";
+    private static final int TOKENS = 3;
+    private final List<InputEvent> events;
+
+    /**
+     * Constructs a script of the given events. Events of the same tick keep their order.
+     *
+     * @param events the events, in any order of tick
+     */
+    public InputScriptImpl(final List<InputEvent> events) {
+        final List<InputEvent> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparingLong(InputEvent::tick));
+        this.events = List.copyOf(sorted);
+    }
+
+    /**
+     * Parses a script written as text.
+     *
+     * @param lines the lines of the script
+     * @return the script
+     * @throws IllegalArgumentException if a line is not a valid event
+     */
+    public static InputScript parse(final List<String> lines) {
+        final List<InputEvent> events = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith(COMMENT)) {
+                continue;
+            }
+            final String[] tokens = line.split("\\s+");
+            try {
+                if (tokens.length != TOKENS) {
+                    throw new IllegalArgumentException("expected <tick> press|release|queue <input>");
+                }
+                events.add(new InputEvent(Long.parseLong(tokens[0]),
+                    UserInput.valueOf(tokens[2].toUpperCase(Locale.ROOT)),
+                    InputEvent.Action.valueOf(tokens[1].toUpperCase(Locale.ROOT))));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid event at line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return new InputScriptImpl(events);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<InputEvent> getEvents() {
+        return this.events;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLength() {
+        return this.events.isEmpty() ? 0 : this.events.get(this.events.size() - 1).tick() + 1;
+    }
+}
@@ -1,8 +1,10 @@
 package mindescape.controller.maincontroller.api;
 
+import java.util.concurrent.CompletableFuture;
 import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.ControllerName;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.saveload.api.SaveService;
 import mindescape.model.world.api.World;
 
 /**
@@ -44,9 +46,19 @@ public interface MainController {
     void exit();
 
     /**
-     * Save the game.
+     * Save the game in the background, then exit once the save is durable.
+     *
+     * @return a future completed when the save has been written,
+     *     or exceptionally if the save failed and the game keeps running
+     */
+    CompletableFuture<Void> save();
+
+    /**
+     * Returns the service writing the saves in the background.
+     *
+     * @return the save service
      */
-    void save();
+    SaveService getSaveService();
 
     /**
      * Load the game.
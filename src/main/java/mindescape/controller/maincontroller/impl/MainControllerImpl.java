@@ -1,29 +1,44 @@
 package mindescape.controller.maincontroller.impl;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javax.swing.SwingUtilities;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.ControllerBuilder;
 import mindescape.controller.core.api.ControllerMap;
 import mindescape.controller.core.api.ControllerName;
+import mindescape.controller.core.api.ControllerPreloader;
 import mindescape.controller.core.api.LoopController;
 import mindescape.controller.core.impl.ControllerBuilderImpl;
+import mindescape.controller.core.impl.ControllerPreloaderImpl;
 import mindescape.controller.maincontroller.api.MainController;
+import mindescape.controller.worldcontroller.impl.WorldController;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.impl.SaveServiceImpl;
 import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMode;
 import mindescape.model.world.api.World;
+import mindescape.utils.GameExecutors;
 import mindescape.view.api.MainView;
+import mindescape.view.enigmapuzzle.impl.EnigmaPuzzleViewImpl;
 import mindescape.view.main.MainViewImpl;
+import mindescape.view.utils.ImageResources;
 
 /**
  * Implementation of the MainController interface.
  */
 public final class MainControllerImpl implements MainController {
-    private Controller currentController;
+    private volatile Controller currentController;
     private ControllerMap controllerMap;
     private final MainView mainView;
     private final ControllerBuilder controllerBuilder;
+    private final ControllerPreloader preloader;
     private String playerName;
+    private final SaveService saveService = new SaveServiceImpl();
 
     /**
      * Constructor for the MainControllerImpl class.
@@ -31,6 +46,8 @@ public final class MainControllerImpl implements MainController {
     public MainControllerImpl() {
         this.mainView = new MainViewImpl(this);
         this.controllerBuilder = new ControllerBuilderImpl(this);
+        this.preloader = new ControllerPreloaderImpl(this.controllerBuilder.getResult(),
+            MainControllerImpl::decodeResources, this::buildDetached, this::getController);
         this.onStart();
     }
 
@@ -44,11 +61,14 @@ public final class MainControllerImpl implements MainController {
             ((LoopController) this.currentController).quit();
         }
 
-        // if the controller is already in the map, set it as the current controller 
-        if (!this.controllerMap.containsController(controllerName)) {
-            this.controllerMap = this.buildController(controllerName, enigma);
+        // if the controller is already in the map, e.g. it has been preloaded, set it as the current controller
+        final ControllerMap controllers = this.controllerMap;
+        synchronized (controllers) {
+            if (!controllers.containsController(controllerName)) {
+                this.controllerMap = this.buildController(controllerName, enigma);
+            }
+            this.currentController = controllers.findController(controllerName);
         }
-        this.currentController = this.controllerMap.findController(controllerName);
         this.mainView.setPanel(this.currentController.getPanel());
         this.currentController.start();
     }
@@ -75,6 +95,8 @@ public final class MainControllerImpl implements MainController {
     @Override
     public void winning() {
         this.mainView.won();
+        this.preloader.cancel();
+        this.stopWorld();
         this.controllerMap.clear();
         this.onStart();
     }
@@ -84,6 +106,10 @@ public final class MainControllerImpl implements MainController {
      */
     @Override
     public void exit() {
+        this.stopWorld();
+        this.preloader.close();
+        this.saveService.close();
+        GameExecutors.shutdown();
         System.exit(0);
     }
 
@@ -91,24 +117,43 @@ public final class MainControllerImpl implements MainController {
      * {@inheritDoc}
      */
     @Override
-    public void save() {
-        final var world = this.controllerMap.findController(ControllerName.WORLD).getModel();
+    public CompletableFuture<Void> save() {
+        final Controller controller = this.controllerMap.findController(ControllerName.WORLD);
+        final var world = controller.getModel();
         Objects.requireNonNull(world, "World is null.");
         if (world instanceof World) {
-            SaveManager.saveGameStatus((World) world);
-            this.exit();
+            final Supplier<SaveSnapshot> snapshot = controller instanceof WorldController
+                ? () -> ((WorldController) controller).snapshot(SaveMode.DELTA)
+                : () -> SaveManager.snapshot((World) world, SaveMode.DELTA);
+            final CompletableFuture<SaveSnapshot> captured = controller instanceof LoopController
+                ? ((LoopController) controller).runOnLoop(snapshot)
+                : CompletableFuture.completedFuture(snapshot.get());
+            return captured
+                .thenCompose(this.saveService::save)
+                .thenRunAsync(this::exit, SwingUtilities::invokeLater);
         } else {
             throw new IllegalStateException("The current controller is not a World controller.");
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The save service is shared with the controllers")
+    public SaveService getSaveService() {
+        return this.saveService;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void loadGame(final World world) {
+        this.stopWorld();
         this.controllerBuilder.buildExistingWorld(world);
         this.controllerMap = this.controllerBuilder.getResult();
+        this.preloader.warmUp(world);
         this.setController(ControllerName.WORLD, null);
     }
 
@@ -121,6 +166,19 @@ public final class MainControllerImpl implements MainController {
         this.setController(ControllerName.MENU, null);
     }
 
+    /**
+     * Stops the loop of the world being replaced, if any, so that its thread ends with it.
+     */
+    private void stopWorld() {
+        final ControllerMap controllers = this.controllerMap;
+        if (controllers != null && controllers.containsController(ControllerName.WORLD)) {
+            final Controller world = controllers.findController(ControllerName.WORLD);
+            if (world instanceof LoopController) {
+                ((LoopController) world).stop();
+            }
+        }
+    }
+
     /**
      * Builds the controller based on the provided controller name if it is not already in the map.
      *
@@ -144,37 +202,81 @@ public final class MainControllerImpl implements MainController {
                 case LOAD:
                     this.controllerBuilder.buildLoad();
                     break;
-                case CAESAR_CIPHER:
-                    this.controllerBuilder.buildComputer(enigma);
-                    break;
                 case WORLD:
                     this.controllerBuilder.buildNewWorld(this.playerName);
-                    break;
-                case WARDROBE:
-                    this.controllerBuilder.buildWardrobe(enigma);
-                    break;
-                case CALENDAR:
-                    this.controllerBuilder.buildCalendar(enigma);
-                    break;
-                case PUZZLE:
-                    this.controllerBuilder.buildPuzzle(enigma);
-                    break;
-                case DRAWER:
-                    this.controllerBuilder.buildDrawer(enigma);
-                    break;
-                case ENIGMA_FIRST_DOOR:
-                    this.controllerBuilder.buildEnigmaFirstDoor(enigma);
+                    this.preloader.warmUp((World) this.controllerBuilder.getResult()
+                        .findController(ControllerName.WORLD)
+                        .getModel()
+                    );
                     break;
                 case GUIDE:
                     this.controllerBuilder.buildGuide();
                     break;
                 default:
-                    throw new IllegalArgumentException("Controller not found.");
+                    buildEnigma(this.controllerBuilder, name, enigma);
             }
         }
         return this.controllerBuilder.getResult();
     }
 
+    /**
+     * Builds the controller of an enigma, without adding it to the controllers of the game,
+     * e.g. to be preloaded.
+     *
+     * @param name the name of the controller to be built
+     * @param enigma the enigma to be set
+     * @return the built controller
+     */
+    private Controller buildDetached(final ControllerName name, final Enigma enigma) {
+        final ControllerBuilder detached = new ControllerBuilderImpl(this);
+        buildEnigma(detached, name, enigma);
+        return detached.getResult().findController(name);
+    }
+
+    /**
+     * Builds the controller of an enigma with the given builder.
+     *
+     * @param builder the builder
+     * @param name the name of the controller to be built
+     * @param enigma the enigma to be set
+     * @throws IllegalArgumentException if the name is not the one of an enigma
+     */
+    private static void buildEnigma(final ControllerBuilder builder, final ControllerName name, final Enigma enigma) {
+        switch (name) {
+            case CAESAR_CIPHER:
+                builder.buildComputer(enigma);
+                break;
+            case WARDROBE:
+                builder.buildWardrobe(enigma);
+                break;
+            case CALENDAR:
+                builder.buildCalendar(enigma);
+                break;
+            case PUZZLE:
+                builder.buildPuzzle(enigma);
+                break;
+            case DRAWER:
+                builder.buildDrawer(enigma);
+                break;
+            case ENIGMA_FIRST_DOOR:
+                builder.buildEnigmaFirstDoor(enigma);
+                break;
+            default:
+                throw new IllegalArgumentException("Controller not found.");
+        }
+    }
+
+    /**
+     * Decodes the resources the view of a controller needs, so that building it takes less.
+     *
+     * @param name the name of the controller
+     */
+    private static void decodeResources(final ControllerName name) {
+        if (name == ControllerName.PUZZLE) {
+            ImageResources.read(EnigmaPuzzleViewImpl.IMAGE);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,9 @@
 package mindescape.controller.saveload.api;
 
+import java.util.Optional;
 import mindescape.controller.core.api.ClickableController;
+import mindescape.model.saveload.api.SaveEntry;
+import mindescape.model.saveload.api.SavePreview;
 
 /**
  * Interface for save file management.
@@ -8,11 +11,19 @@ import mindescape.controller.core.api.ClickableController;
 public interface SavesController extends ClickableController {
 
     /**
-     * Loads a save file based on the provided index.
+     * Loads a save file, as listed by the view.
      *
-     * @param index the index of the save file to load
+     * @param save the entry of the save file to load
      */
-    void loadSaveFile(int index);
+    void loadSaveFile(SaveEntry save);
+
+    /**
+     * Reads the preview of a save file, as listed by the view, without loading the save.
+     *
+     * @param save the entry of the save file
+     * @return the preview of the save, or empty if the save has no preview
+     */
+    Optional<SavePreview> getPreview(SaveEntry save);
 
     /**
      * Updates the view to reflect the current state of the model.
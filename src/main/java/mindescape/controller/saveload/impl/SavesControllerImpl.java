@@ -1,8 +1,8 @@
 package mindescape.controller.saveload.impl;
 
 import java.io.File;
-import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import javax.swing.JPanel;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -10,6 +10,8 @@ import mindescape.controller.core.api.ControllerName;
 import mindescape.controller.maincontroller.api.MainController;
 import mindescape.controller.saveload.api.SavesController;
 import mindescape.model.api.Model;
+import mindescape.model.saveload.api.SaveEntry;
+import mindescape.model.saveload.api.SavePreview;
 import mindescape.model.saveload.api.Saves;
 import mindescape.model.saveload.impl.SavesImpl;
 import mindescape.model.saveload.util.SaveManager;
@@ -59,12 +61,16 @@ public final class SavesControllerImpl implements SavesController {
      * {@inheritDoc}
      */
     @Override
-    public void loadSaveFile(final int index) {
-        final List<File> saveFiles = model.getSortedSaveFiles();
+    public void loadSaveFile(final SaveEntry save) {
+        this.load(save.file().toFile());
+    }
 
-        if (index >= 0 && index < saveFiles.size()) {
-            this.load(saveFiles.get(index));
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<SavePreview> getPreview(final SaveEntry save) {
+        return SaveManager.readPreview(save.file());
     }
 
     /**
@@ -88,7 +94,7 @@ public final class SavesControllerImpl implements SavesController {
      */
     @Override
     public void updateView() {
-        this.view.updateSaveFiles(model.getSortedSaveFiles());
+        this.view.updateSaveFiles(model.getSortedSaves());
     }
 
     /**
@@ -142,10 +148,10 @@ public final class SavesControllerImpl implements SavesController {
      * Loads the save files from the model and updates the view.
      */
     private void loadSaveFile() {
-        final var saveFiles = model.getSortedSaveFiles();
+        final var saves = model.getSortedSaves();
 
-        if (!saveFiles.isEmpty()) {
-            view.updateSaveFiles(saveFiles);
+        if (!saves.isEmpty()) {
+            view.updateSaveFiles(saves);
         }
     }
 }
@@ -0,0 +1,75 @@
+package mindescape.controller.worldcontroller.api;
+
+import java.time.Duration;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.InputScript;
+import mindescape.model.world.api.World;
+
+/**
+ * Runs a world without any view, driven by an {@link InputScript} in place of the keyboard.
+ * <p>
+ * The ticks run back to back on the calling thread, as fast as the model allows, while the play
+ * time of the world still advances by the duration of a tick at the rate of the game: this is meant
+ * for soak tests, batch solvers and performance runs on machines without a display.
+ * </p>
+ */
+public interface HeadlessRuntime {
+
+    /**
+     * The outcome of a run.
+     *
+     * @param ticks the number of ticks run
+     * @param elapsed the wall-clock time the run took
+     * @param won true if the run ended because the game has been won
+     */
+    record Result(long ticks, Duration elapsed, boolean won) {
+
+        /**
+         * Returns the throughput of the model during the run.
+         *
+         * @return the number of ticks run per second of wall-clock time
+         */
+        public double ticksPerSecond() {
+            final double seconds = elapsed.toNanos() / (double) Duration.ofSeconds(1).toNanos();
+            return seconds > 0 ? ticks / seconds : 0;
+        }
+    }
+
+    /**
+     * Runs the world until the game is won or the given number of ticks has run, whichever comes first.
+     * The ticks of the events of the script are counted from the start of the run.
+     *
+     * @param script the inputs driving the world
+     * @param maxTicks the maximum number of ticks to run
+     * @return the outcome of the run
+     * @throws IllegalArgumentException if the maximum number of ticks is negative
+     */
+    Result run(InputScript script, long maxTicks);
+
+    /**
+     * Runs the world until the game is won or the script ends.
+     *
+     * @param script the inputs driving the world
+     * @return the outcome of the run
+     */
+    default Result run(final InputScript script) {
+        return run(script, script.getLength());
+    }
+
+    /**
+     * Replays a recorded session: shuffles the puzzles of the world with the recorded seeds, then runs
+     * the recorded inputs for as many ticks as were recorded, or until the game is won. The world has to be
+     * in the state it was when the recording started for the replay to match the session.
+     *
+     * @param recording the recording
+     * @return the outcome of the run
+     */
+    Result replay(InputRecording recording);
+
+    /**
+     * Returns the world run.
+     *
+     * @return the world
+     */
+    World getWorld();
+}
@@ -0,0 +1,103 @@
+package mindescape.controller.worldcontroller.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.InputScript;
+import mindescape.controller.core.impl.InputBufferImpl;
+import mindescape.controller.worldcontroller.api.HeadlessRuntime;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.world.api.World;
+
+/**
+ * Implementation of {@link HeadlessRuntime}.
+ * <p>
+ * Each tick applies the events of the script stamped with it, then advances the world through the
+ * same {@link WorldSimulation} the game loop of {@link WorldController} uses, so the world evolves as
+ * in a rendered game fed with the same inputs. There are no enigma screens: the enigmas the player
+ * opens are handed to a handler, e.g. a solver, and the inventory is ignored. No checkpoints are taken.
+ * </p>
+ */
+public final class HeadlessRuntimeImpl implements HeadlessRuntime {
+
+    private static final int DEFAULT_TICK_RATE = 60;
+    private final World world;
+    private final InputBuffer input;
+    private final WorldSimulation simulation;
+
+    /**
+     * Constructs a runtime ticking at 60 ticks per second of play time, ignoring the enigmas opened.
+     *
+     * @param world the world to run
+     */
+    public HeadlessRuntimeImpl(final World world) {
+        this(world, DEFAULT_TICK_RATE, enigma -> { });
+    }
+
+    /**
+     * Constructs a runtime.
+     *
+     * @param world the world to run
+     * @param tickRate the number of ticks per second of play time
+     * @param onEnigma the handler of the enigmas the player opens, called by the thread running the world
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The world is run, so it is changed, by the runtime")
+    public HeadlessRuntimeImpl(final World world, final int tickRate, final Consumer<Enigma> onEnigma) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive");
+        }
+        this.world = Objects.requireNonNull(world);
+        // a single thread fills and drains the buffer, which is full only if a tick presses too many keys
+        this.input = new InputBufferImpl();
+        this.simulation = new WorldSimulation(world, this.input, Duration.ofSeconds(1).dividedBy(tickRate),
+            Objects.requireNonNull(onEnigma), () -> { });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Result run(final InputScript script, final long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("Negative number of ticks: " + maxTicks);
+        }
+        final List<InputEvent> events = script.getEvents();
+        int next = 0;
+        long tick = 0;
+        final long start = System.nanoTime();
+        while (tick < maxTicks && !this.world.hasWon()) {
+            while (next < events.size() && events.get(next).tick() <= tick) {
+                events.get(next).applyTo(this.input);
+                next++;
+            }
+            this.simulation.step();
+            tick++;
+        }
+        this.input.clear();
+        return new Result(tick, Duration.ofNanos(System.nanoTime() - start), this.world.hasWon());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Result replay(final InputRecording recording) {
+        WorldSimulation.applySeeds(this.world, recording.seeds());
+        return run(recording, recording.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The world is returned to the caller")
+    public World getWorld() {
+        return this.world;
+    }
+}
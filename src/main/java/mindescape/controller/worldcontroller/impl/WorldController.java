@@ -1,35 +1,66 @@
 package mindescape.controller.worldcontroller.impl;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import javax.swing.JPanel;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.controller.core.api.ControllerName;
-import mindescape.controller.core.api.KeyMapper;
+import mindescape.controller.core.api.GameLoop;
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.InputRecording;
 import mindescape.controller.core.api.LoopController;
 import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.GameLoopImpl;
+import mindescape.controller.core.impl.InputBufferImpl;
+import mindescape.controller.core.impl.InputLogCodec;
+import mindescape.controller.core.impl.InputRecorderImpl;
 import mindescape.controller.maincontroller.api.MainController;
 import mindescape.model.api.Model;
+import mindescape.model.saveload.api.CheckpointScheduler;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.impl.CheckpointSchedulerImpl;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMode;
 import mindescape.model.world.api.World;
-import mindescape.model.world.core.api.Movement;
+import mindescape.utils.GameExecutors;
+import mindescape.utils.metrics.GameMetrics;
 import mindescape.view.api.WorldView;
 import mindescape.view.world.WorldViewImpl;
 
 /**
  * The controller for the world.
+ * <p>
+ * The inputs of a session can be recorded to a log, written when the loop is stopped, by setting the
+ * system property {@value #RECORDING_PROPERTY} to the path of the log; setting {@value #REPLAY_PROPERTY}
+ * to the path of a log replays it instead of the inputs of the player, who takes over when it ends.
+ * </p>
  */
 public final class WorldController implements LoopController {
 
     private final World world;
     private final WorldView worldView;
     private final MainController mainController;
+    /**
+     * The system property naming the file the inputs of the session are recorded to.
+     */
+    public static final String RECORDING_PROPERTY = "mindescape.recording";
+    /**
+     * The system property naming the recorded session to replay when the world starts.
+     */
+    public static final String REPLAY_PROPERTY = "mindescape.replay";
+    private static final int DEFAULT_TICK_RATE = 60;
+    private static final int DEFAULT_FRAME_RATE = 60;
+    private final InputBuffer input = new InputBufferImpl();
+    private final WorldSimulation simulation;
+    private final GameLoop loop;
+    private final CheckpointScheduler checkpoints;
     private final Logger logger = Logger.getLogger(WorldController.class.getName());
-    private boolean running = true;
-    private static final int FPS = 60; 
-    private static final long TIME = 1_000; // 1 second in milliseconds
-    private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
 
     /**
      * Constructs a new WorldController with the specified world and the reference to the main controller.
@@ -37,27 +68,55 @@ public final class WorldController implements LoopController {
      * @param world the world model to be controlled
      * @param mainController the main controller managing the overall application
      */
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The main controller needs to be exposed to the caller")
     public WorldController(final World world, final MainController mainController) {
+        this(world, mainController, DEFAULT_TICK_RATE, DEFAULT_FRAME_RATE);
+    }
+
+    /**
+     * Constructs a new WorldController running the simulation and the rendering at the given rates.
+     *
+     * @param world the world model to be controlled
+     * @param mainController the main controller managing the overall application
+     * @param tickRate the number of simulation ticks per second
+     * @param frameRate the maximum number of frames rendered per second
+     * @throws IllegalArgumentException if any of the rates is not positive
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The main controller needs to be exposed to the caller")
+    public WorldController(final World world, final MainController mainController, final int tickRate, final int frameRate) {
+        if (tickRate <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Tick and frame rates must be positive");
+        }
         this.world = world;
-        this.worldView = new WorldViewImpl(world.getCurrentRoom());
+        this.worldView = new WorldViewImpl(world.getCurrentRoom(), world.getPlayer(), input);
         this.mainController = mainController;
+        this.simulation = new WorldSimulation(world, input, Duration.ofSeconds(1).dividedBy(tickRate),
+            enigma -> mainController.setController(ControllerName.fromString(enigma.getName()), enigma),
+            () -> mainController.setController(ControllerName.INVENTORY, null));
+        this.loop = new GameLoopImpl(this::tick, this.worldView::draw, tickRate, frameRate);
+        this.checkpoints = new CheckpointSchedulerImpl(world, mainController.getSaveService(),
+            () -> snapshot(SaveMode.DELTA));
+        final String replayed = System.getProperty(REPLAY_PROPERTY);
+        if (replayed != null) {
+            try {
+                replay(InputLogCodec.read(Path.of(replayed)));
+            } catch (final IOException | IllegalArgumentException e) {
+                logger.warning(() -> "Cannot replay " + replayed + ": " + e.getMessage());
+            }
+        }
+        if (System.getProperty(RECORDING_PROPERTY) != null) {
+            startRecording();
+        }
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The input is queued and handled by the game loop on its next tick.
+     * </p>
      */
     @Override
     public void handleInput(final Object input) {
-        switch ((UserInput) input) {
-            case UP -> this.world.movePlayer(Movement.UP);
-            case DOWN -> this.world.movePlayer(Movement.DOWN);
-            case LEFT -> this.world.movePlayer(Movement.LEFT);
-            case RIGHT -> this.world.movePlayer(Movement.RIGHT);
-            case INTERACT -> interactAction();
-            case INVENTORY ->  inventoryAction();
-            default -> throw new IllegalArgumentException("Unknown input: " + input);
-        }
+        this.input.offer((UserInput) input);
     }
 
     /**
@@ -65,41 +124,97 @@ public final class WorldController implements LoopController {
      */
     @Override
     public void quit() {
-        this.running = false;
+        this.loop.pause();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.checkpoints.close();
+        final String recorded = System.getProperty(RECORDING_PROPERTY);
+        if (recorded != null) {
+            stopRecording().thenAcceptAsync(recording -> recording.ifPresent(r -> write(r, Path.of(recorded))),
+                GameExecutors.io());
+        }
+        this.loop.stop();
+    }
+
+    /**
+     * Starts recording the inputs applied by the loop, from its next tick on, replacing any recording in progress.
+     */
+    public void startRecording() {
+        this.loop.runOnLoop(() -> {
+            this.simulation.record(new InputRecorderImpl());
+            return null;
+        });
     }
 
     /**
-     * The loop that runs the game.
+     * Stops recording the inputs applied by the loop.
+     *
+     * @return a future completed with the recording, empty if no recording was in progress
      */
-    private final class Loop extends Thread {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void run() {
-            final long frameTime = TIME / FPS;
+    public CompletableFuture<Optional<InputRecording>> stopRecording() {
+        return this.loop.runOnLoop(() -> Optional.ofNullable(this.simulation.stopRecording()));
+    }
 
-            while (running) {
-                final long startTime = System.currentTimeMillis();
+    /**
+     * Replays a recorded session, from the next tick of the loop on, in place of the inputs of the player.
+     * The puzzles are shuffled with the recorded seeds first, so the world has to be in the state it was
+     * when the recording started for the replay to match the session.
+     *
+     * @param recording the recording
+     */
+    public void replay(final InputRecording recording) {
+        this.loop.runOnLoop(() -> {
+            WorldSimulation.applySeeds(this.world, recording.seeds());
+            this.simulation.replay(recording);
+            return null;
+        });
+    }
 
-                if (world.hasWon()) {
-                    mainController.winning();
-                    quit();
-                }
+    private void write(final InputRecording recording, final Path file) {
+        try {
+            InputLogCodec.write(recording, file);
+        } catch (final IOException e) {
+            logger.warning(() -> "Cannot write the recording " + file + ": " + e.getMessage());
+        }
+    }
 
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                if (elapsedTime < frameTime) {
-                    try {
-                        sleep(frameTime - elapsedTime);
-                    } catch (InterruptedException e) {
-                        logger.fine(e.getMessage());
-                    }
-                }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> CompletableFuture<T> runOnLoop(final Supplier<T> task) {
+        return this.loop.runOnLoop(task);
+    }
 
-                movePlayerIfKeyPressed();
-                worldView.draw(world.getCurrentRoom());
-            }
+    /**
+     * Captures the state of the world to be saved, along with a thumbnail of the current room.
+     * It has to be called by the thread running the loop, e.g. through {@link #runOnLoop(Supplier)}.
+     *
+     * @param mode how much of the world to save
+     * @return the snapshot
+     */
+    public SaveSnapshot snapshot(final SaveMode mode) {
+        return SaveManager.snapshot(this.world, mode, this.worldView.getThumbnail());
+    }
+
+    /**
+     * Advances the simulation by a single step.
+     */
+    private void tick() {
+        final long start = System.nanoTime();
+        simulation.step();
+        checkpoints.tick(System.nanoTime());
+        worldView.update(world.getCurrentRoom(), world.getPlayer());
+        if (world.hasWon()) {
+            mainController.winning();
+            stop();
         }
+        GameMetrics.TICK.recordSince(start);
     }
 
     /**
@@ -136,29 +251,12 @@ public final class WorldController implements LoopController {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The first time the loop thread is started, afterwards the paused loop is resumed.
+     * </p>
      */
     @Override
     public void start() {
-        this.running = true;
-        new Loop().start();
-    }
-
-    private void movePlayerIfKeyPressed() {
-        for (final Map.Entry<Integer, Boolean> entry : new HashMap<>(worldView.getKeyState()).entrySet()) {
-            if (entry.getValue()) {
-                handleInput(keyMapper.get(entry.getKey()));
-            }
-        }
-    }
-
-    private void interactAction() {
-        worldView.clearInput();
-        this.world.letPlayerInteract().ifPresent(enigma -> 
-        this.mainController.setController(ControllerName.fromString(enigma.getName()), enigma));
-    }
-
-    private void inventoryAction() {
-        worldView.clearInput();
-        this.mainController.setController(ControllerName.INVENTORY, null);
+        this.loop.start();
     }
 }
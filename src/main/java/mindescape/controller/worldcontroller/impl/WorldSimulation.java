@@ -0,0 +1,240 @@
+package mindescape.controller.worldcontroller.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputRecorder;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.InputScript;
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.InputBufferImpl;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Movement;
+import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.utils.metrics.GameMetrics;
+
+/**
+ * A step of the simulation of a world, shared by the rendered and the headless runtimes so that
+ * both advance the world in the same way. What happens when an enigma or the inventory is opened
+ * is left to the runtime.
+ * <p>
+ * The inputs the simulation applies can be recorded, as seen by the simulation at each tick,
+ * and a script can replace the inputs of the player, so that a recorded session is replayed exactly.
+ * The simulation has to be used by a single thread, the one running the world.
+ * </p>
+ */
+final class WorldSimulation {
+
+    private static final UserInput[] INPUTS = UserInput.values();
+    private final World world;
+    private final InputBuffer live;
+    private final Duration tickTime;
+    private final Consumer<Enigma> onEnigma;
+    private final Runnable onInventory;
+    private InputBuffer input;
+    private InputRecorder recorder;
+    private long recordedTicks;
+    private final boolean[] recordedHeld = new boolean[INPUTS.length];
+    private List<InputEvent> script;
+    private long scriptLength;
+    private long scriptTick;
+    private int scriptNext;
+
+    /**
+     * Constructs the simulation of a world.
+     *
+     * @param world the world
+     * @param input the buffer of the inputs of the player
+     * @param tickTime the play time a tick lasts
+     * @param onEnigma what to do when the player opens an enigma
+     * @param onInventory what to do when the player opens the inventory
+     */
+    WorldSimulation(final World world, final InputBuffer input, final Duration tickTime,
+            final Consumer<Enigma> onEnigma, final Runnable onInventory) {
+        this.world = world;
+        this.live = input;
+        this.input = input;
+        this.tickTime = tickTime;
+        this.onEnigma = onEnigma;
+        this.onInventory = onInventory;
+    }
+
+    /**
+     * Advances the world by a tick: applies the events of the script, if any, then the inputs whose keys
+     * are held down, then the queued ones.
+     */
+    void step() {
+        final long start = System.nanoTime();
+        if (this.script != null) {
+            feedScript();
+        }
+        for (final UserInput held : INPUTS) {
+            if (held.isContinuous()) {
+                final boolean isHeld = input.isHeld(held);
+                if (this.recorder != null && isHeld != this.recordedHeld[held.ordinal()]) {
+                    this.recordedHeld[held.ordinal()] = isHeld;
+                    this.recorder.record(new InputEvent(this.recordedTicks, held,
+                        isHeld ? InputEvent.Action.PRESS : InputEvent.Action.RELEASE));
+                }
+                if (isHeld) {
+                    apply(held);
+                }
+            }
+        }
+        UserInput queued = input.poll();
+        while (queued != null) {
+            if (this.recorder != null) {
+                this.recorder.record(new InputEvent(this.recordedTicks, queued, InputEvent.Action.QUEUE));
+            }
+            apply(queued);
+            queued = input.poll();
+        }
+        GameMetrics.INPUT_DRAIN.recordSince(start);
+        world.addPlayTime(tickTime);
+        if (this.recorder != null) {
+            this.recordedTicks++;
+        }
+    }
+
+    /**
+     * Starts recording the inputs applied from the next tick on, replacing any recording in progress.
+     *
+     * @param inputRecorder the recorder
+     */
+    void record(final InputRecorder inputRecorder) {
+        this.recorder = inputRecorder;
+        this.recordedTicks = 0;
+        Arrays.fill(this.recordedHeld, false);
+    }
+
+    /**
+     * Stops recording, adding to the recording the seeds of the puzzles of the world.
+     *
+     * @return the recording, or null if no recording was in progress
+     */
+    InputRecording stopRecording() {
+        if (this.recorder == null) {
+            return null;
+        }
+        seedsOf(this.world).forEach(this.recorder::recordSeed);
+        final InputRecording recording = this.recorder.finish(this.recordedTicks);
+        this.recorder = null;
+        return recording;
+    }
+
+    /**
+     * Replaces the inputs of the player with a script from the next tick on, until the script ends.
+     * The keys of the player held down and the inputs queued meanwhile are discarded.
+     *
+     * @param inputScript the script
+     */
+    void replay(final InputScript inputScript) {
+        this.script = inputScript.getEvents();
+        this.scriptLength = inputScript.getLength();
+        this.scriptTick = 0;
+        this.scriptNext = 0;
+        this.input = new InputBufferImpl();
+    }
+
+    /**
+     * Checks if a script is replacing the inputs of the player.
+     *
+     * @return true if a script is being replayed
+     */
+    boolean isReplaying() {
+        return this.script != null;
+    }
+
+    /**
+     * Returns the seeds of the shuffles of the puzzles of a world.
+     *
+     * @param world the world
+     * @return the seeds, by the name of the puzzle
+     */
+    static Map<String, Long> seedsOf(final World world) {
+        final Map<String, Long> seeds = new HashMap<>();
+        forEachPuzzle(world, puzzle -> puzzle.getShuffleSeed().ifPresent(seed -> seeds.put(puzzle.getName(), seed)));
+        return seeds;
+    }
+
+    /**
+     * Shuffles the puzzles of a world with the seeds of a recording, so that they are laid out as they were
+     * during the recorded session.
+     *
+     * @param world the world
+     * @param seeds the seeds, by the name of the puzzle
+     */
+    static void applySeeds(final World world, final Map<String, Long> seeds) {
+        forEachPuzzle(world, puzzle -> {
+            final Long seed = seeds.get(puzzle.getName());
+            if (seed != null) {
+                puzzle.shufflePieces(seed);
+            }
+        });
+    }
+
+    private static void forEachPuzzle(final World world, final Consumer<EnigmaPuzzleModelImpl> action) {
+        for (final Room room : world.getRooms()) {
+            for (final GameObject object : room.getGameObjects()) {
+                if (object instanceof UnpickableWithEnigma holder
+                        && holder.getEnigma() instanceof EnigmaPuzzleModelImpl puzzle) {
+                    action.accept(puzzle);
+                }
+            }
+        }
+    }
+
+    private void feedScript() {
+        if (this.scriptTick >= this.scriptLength) {
+            this.script = null;
+            this.input = this.live;
+            this.live.clear();
+            return;
+        }
+        while (this.scriptNext < this.script.size() && this.script.get(this.scriptNext).tick() <= this.scriptTick) {
+            this.script.get(this.scriptNext).applyTo(this.input);
+            this.scriptNext++;
+        }
+        this.scriptTick++;
+    }
+
+    private void apply(final UserInput input) {
+        switch (input) {
+            case UP -> this.world.movePlayer(Movement.UP);
+            case DOWN -> this.world.movePlayer(Movement.DOWN);
+            case LEFT -> this.world.movePlayer(Movement.LEFT);
+            case RIGHT -> this.world.movePlayer(Movement.RIGHT);
+            case INTERACT -> interactAction();
+            case INVENTORY -> inventoryAction();
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    private void interactAction() {
+        clearInput();
+        this.world.letPlayerInteract().ifPresent(onEnigma);
+    }
+
+    private void inventoryAction() {
+        clearInput();
+        onInventory.run();
+    }
+
+    /*
+     * Clearing the input releases the keys held down, so they are recorded as released too:
+     * a key still held on the next tick is then recorded as pressed again, as the replay needs.
+     */
+    private void clearInput() {
+        input.clear();
+        Arrays.fill(this.recordedHeld, false);
+    }
+}
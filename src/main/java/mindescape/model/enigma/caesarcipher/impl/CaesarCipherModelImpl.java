@@ -3,12 +3,17 @@ package mindescape.model.enigma.caesarcipher.impl;
 import java.io.Serializable;
 
 import mindescape.model.enigma.caesarcipher.api.CaesarCipherModel;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventEmitter;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.utils.jfr.EnigmaHitEvent;
 
 /**
  * The {@code CaesarCipherModelImpl} class implements {@code CaesarCipherModel} to provide encryption
  * and decryption functionalities for the Caesar Cipher enigma.
  */
-public final class CaesarCipherModelImpl implements CaesarCipherModel, Serializable {
+public final class CaesarCipherModelImpl implements CaesarCipherModel, GameEventEmitter, Serializable {
 
     private static final String ENCRYPTED_TEXT = 
         "Forvhw nhb: reolylrq."; 
@@ -18,6 +23,7 @@ public final class CaesarCipherModelImpl implements CaesarCipherModel, Serializa
     private final int shift;
     private final String name;
     private boolean solved;
+    private transient GameEventListener eventListener;
 
     /**
      * Constructs a {@code CaesarCipherModelImpl} with a name and a given shift value.
@@ -44,9 +50,12 @@ public final class CaesarCipherModelImpl implements CaesarCipherModel, Serializa
      */
     @Override
     public boolean hit(final Object value) {
-        if (value instanceof String && value.equals(this.decrypt(this.shift))) {
+        final boolean right = value instanceof String && value.equals(this.decrypt(this.shift));
+        if (!this.solved && right) {
             this.solved = true;
+            fireSolved();
         }
+        EnigmaHitEvent.emit(getName(), right, this.isSolved());
         return this.solved;
     }
 
@@ -84,4 +93,27 @@ public final class CaesarCipherModelImpl implements CaesarCipherModel, Serializa
     public String getEncryptedText() {
         return ENCRYPTED_TEXT; 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGameEventListener(final GameEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    private void fireSolved() {
+        if (this.eventListener != null) {
+            this.eventListener.onEvent(new GameEvent(GameEventType.SOLVED, getName()));
+        }
+    }
+
+    /**
+     * Sets whether the enigma is solved, e.g. when restoring a saved game.
+     *
+     * @param solved {@code true} if the enigma is solved
+     */
+    public void setSolved(final boolean solved) {
+        this.solved = solved;
+    }
 }
@@ -2,6 +2,11 @@ package mindescape.model.enigma.enigmapassword.impl;
 
 import java.io.Serializable;
 import mindescape.model.enigma.enigmapassword.api.EnigmaPasswordModel;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventEmitter;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.utils.jfr.EnigmaHitEvent;
 
 /**
  * Represents a password-based enigma required to unlock a door in the first room.
@@ -9,7 +14,7 @@ import mindescape.model.enigma.enigmapassword.api.EnigmaPasswordModel;
  * The enigma is solved by providing the correct password.
  * </p>
  */
-public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, Serializable {
+public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, GameEventEmitter, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -19,6 +24,7 @@ public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, Seria
     private boolean solved;
     private final String name;
     private final String password;
+    private transient GameEventListener eventListener;
 
     /**
      * Constructs a new {@code EnigmaPasswordModelImpl} with an initial unsolved state.
@@ -45,9 +51,12 @@ public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, Seria
      */
     @Override
     public boolean hit(final Object value) {
-        if (value instanceof String && value.equals(this.password)) {
+        final boolean right = value instanceof String && value.equals(this.password);
+        if (!this.solved && right) {
             this.solved = true;
+            fireSolved();
         }
+        EnigmaHitEvent.emit(getName(), right, this.isSolved());
         return this.isSolved();
     }
 
@@ -58,4 +67,27 @@ public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, Seria
     public String getName() {
         return this.name;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGameEventListener(final GameEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    private void fireSolved() {
+        if (this.eventListener != null) {
+            this.eventListener.onEvent(new GameEvent(GameEventType.SOLVED, getName()));
+        }
+    }
+
+    /**
+     * Sets whether the enigma is solved, e.g. when restoring a saved game.
+     *
+     * @param solved {@code true} if the enigma is solved
+     */
+    public void setSolved(final boolean solved) {
+        this.solved = solved;
+    }
 }
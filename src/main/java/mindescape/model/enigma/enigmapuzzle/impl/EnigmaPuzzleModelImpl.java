@@ -4,20 +4,30 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
 import mindescape.model.enigma.enigmapuzzle.api.EnigmaPuzzleModel;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventEmitter;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.utils.jfr.EnigmaHitEvent;
 
 /**
  * The {@code EnigmaPuzzleModelImpl} class implements {@code EnigmaPuzzleModel} to provide functionalities
  * for the Enigma Puzzle enigma.
  */
-public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializable {
+public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, GameEventEmitter, Serializable {
 
     private static final long serialVersionUID = 1L;
+    private static final Random SEEDS = new Random();
     private final int rows;
     private final int cols;
     private final Integer[][] pieces;
     private final String puzzleName;
     private Integer clickedButtonIndex;
+    private transient GameEventListener eventListener;
+    private transient Long shuffleSeed;
 
     /**
      * Constructs an EnigmaPuzzleModelImpl with the specified number of rows and columns and the puzzle name.
@@ -66,6 +76,24 @@ public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializa
         return copy;
     }
 
+    /**
+     * Places the pieces of the puzzle, e.g. when restoring a saved game.
+     *
+     * @param newPieces the pieces, row by row, as returned by {@link #getPieces()}
+     * @throws IllegalArgumentException if the pieces do not match the size of the puzzle
+     */
+    public void setPieces(final Integer[][] newPieces) {
+        if (newPieces.length != this.rows) {
+            throw new IllegalArgumentException("Expected " + this.rows + " rows of pieces");
+        }
+        for (int i = 0; i < this.rows; i++) {
+            if (newPieces[i].length != this.cols) {
+                throw new IllegalArgumentException("Expected " + this.cols + " columns of pieces");
+            }
+            System.arraycopy(newPieces[i], 0, this.pieces[i], 0, this.cols);
+        }
+    }
+
     /**
      * Retrieves the image piece located at the specified row and column.
      *
@@ -85,11 +113,23 @@ public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializa
         return this.puzzleName;
     }
     /**
-     * Shuffles the pieces of the puzzle randomly.
+     * Shuffles the pieces of the puzzle randomly, with a new seed.
+     *
+     * @see #getShuffleSeed()
+     */
+    public void shufflePieces() {
+        shufflePieces(SEEDS.nextLong());
+    }
+
+    /**
+     * Shuffles the pieces of the puzzle as determined by a seed, so that the same seed always
+     * leads to the same puzzle, e.g. when a recorded session is replayed.
      * This method first collects all pieces into a list, shuffles the list,
      * and then reassigns the shuffled pieces back to the original 2D array.
+     *
+     * @param seed the seed of the shuffle
      */
-    public void shufflePieces() {
+    public void shufflePieces(final long seed) {
         final List<Integer> shuffledPieces = new ArrayList<>();
 
         for (int i = 0; i < this.rows; i++) {
@@ -98,16 +138,26 @@ public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializa
             }
         }
 
-        Collections.shuffle(shuffledPieces);
+        Collections.shuffle(shuffledPieces, new Random(seed));
         int index = 0;
         for (int i = 0; i < this.rows; i++) {
             for (int j = 0; j < this.cols; j++) {
                 pieces[i][j] = shuffledPieces.get(index++);
             }
         }
+        this.shuffleSeed = seed;
     }
 
-        /**
+    /**
+     * Returns the seed of the last shuffle of the pieces in this session.
+     *
+     * @return the seed, or empty if the pieces have not been shuffled since the puzzle was created or loaded
+     */
+    public OptionalLong getShuffleSeed() {
+        return this.shuffleSeed == null ? OptionalLong.empty() : OptionalLong.of(this.shuffleSeed);
+    }
+
+    /**
      * Starts the puzzle, calling shufflePieces to randomize the puzzle pieces.
      */
     public void startPuzzle() {
@@ -155,11 +205,31 @@ public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializa
         final Integer hitIndex = (Integer) value;
         if (this.clickedButtonIndex == null) {
             this.clickedButtonIndex = hitIndex;
+            EnigmaHitEvent.emit(getName(), false, this.isSolved());
             return false;
         } else {
+            final boolean wasSolved = this.isSolved();
             this.swapPieces(clickedButtonIndex, hitIndex);
             this.clickedButtonIndex = null;
+            if (!wasSolved && this.isSolved()) {
+                fireSolved();
+            }
+            EnigmaHitEvent.emit(getName(), true, this.isSolved());
             return true;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGameEventListener(final GameEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    private void fireSolved() {
+        if (this.eventListener != null) {
+            this.eventListener.onEvent(new GameEvent(GameEventType.SOLVED, getName()));
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package mindescape.model.events.api;
+
+import java.util.Objects;
+
+/**
+ * An event changing the progress of the game.
+ *
+ * @param type the kind of event
+ * @param source the name of what the event is about: the object unlocked or picked up,
+ *     the enigma solved or the room entered
+ */
+public record GameEvent(GameEventType type, String source) {
+
+    /**
+     * Checks the event is complete.
+     */
+    public GameEvent {
+        Objects.requireNonNull(type, "Event type must not be null");
+        Objects.requireNonNull(source, "Event source must not be null");
+    }
+}
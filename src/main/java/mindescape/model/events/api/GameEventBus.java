@@ -0,0 +1,28 @@
+package mindescape.model.events.api;
+
+/**
+ * Dispatches the {@link GameEvent}s published by the emitters to every subscribed listener.
+ */
+public interface GameEventBus {
+
+    /**
+     * Subscribes a listener to every event published from now on.
+     *
+     * @param listener the listener to subscribe
+     */
+    void subscribe(GameEventListener listener);
+
+    /**
+     * Unsubscribes a listener.
+     *
+     * @param listener the listener to unsubscribe
+     */
+    void unsubscribe(GameEventListener listener);
+
+    /**
+     * Sends an event to the subscribed listeners, in order of subscription.
+     *
+     * @param event the event to publish
+     */
+    void publish(GameEvent event);
+}
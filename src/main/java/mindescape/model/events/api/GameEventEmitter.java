@@ -0,0 +1,16 @@
+package mindescape.model.events.api;
+
+/**
+ * Something that emits {@link GameEvent}s, such as an object that can be unlocked
+ * or an enigma that can be solved.
+ */
+public interface GameEventEmitter {
+
+    /**
+     * Sets the listener the events are sent to, replacing the previous one.
+     * The listener is not saved along with the emitter, so it has to be set again after loading.
+     *
+     * @param listener the listener, null to stop sending events
+     */
+    void setGameEventListener(GameEventListener listener);
+}
@@ -0,0 +1,19 @@
+package mindescape.model.events.api;
+
+/**
+ * Listener of the {@link GameEvent}s.
+ * <p>
+ * Events may be published from the game loop as well as from the event dispatch thread,
+ * e.g. when an enigma is solved, so listeners have to be thread safe.
+ * </p>
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Called when an event happens.
+     *
+     * @param event the event
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,23 @@
+package mindescape.model.events.api;
+
+/**
+ * The kinds of {@link GameEvent} changing the progress of the game.
+ */
+public enum GameEventType {
+    /**
+     * An object has been unlocked.
+     */
+    UNLOCKED,
+    /**
+     * An enigma has been solved.
+     */
+    SOLVED,
+    /**
+     * An item has been picked up by the player.
+     */
+    PICKED,
+    /**
+     * The player has moved to another room.
+     */
+    ROOM_CHANGED
+}
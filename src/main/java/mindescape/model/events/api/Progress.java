@@ -0,0 +1,28 @@
+package mindescape.model.events.api;
+
+/**
+ * The progress of the player through the game.
+ */
+public interface Progress {
+
+    /**
+     * Returns the number of objects unlocked so far.
+     *
+     * @return the number of unlocked objects
+     */
+    int getUnlockedCount();
+
+    /**
+     * Returns the number of enigmas solved so far.
+     *
+     * @return the number of solved enigmas
+     */
+    int getSolvedCount();
+
+    /**
+     * Returns the number of items picked up so far.
+     *
+     * @return the number of picked items
+     */
+    int getPickedCount();
+}
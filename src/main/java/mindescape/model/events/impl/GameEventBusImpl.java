@@ -0,0 +1,42 @@
+package mindescape.model.events.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventBus;
+import mindescape.model.events.api.GameEventListener;
+
+/**
+ * Implementation of {@link GameEventBus} delivering the events synchronously, on the thread
+ * publishing them. Listeners can be (un)subscribed from any thread, even while an event is delivered.
+ */
+public final class GameEventBusImpl implements GameEventBus {
+
+    private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final GameEventListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener must not be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(final GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(final GameEvent event) {
+        Objects.requireNonNull(event, "Event must not be null");
+        listeners.forEach(listener -> listener.onEvent(event));
+    }
+}
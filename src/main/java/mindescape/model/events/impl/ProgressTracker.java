@@ -0,0 +1,73 @@
+package mindescape.model.events.impl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.Progress;
+
+/**
+ * Keeps the {@link Progress} of the player up to date from the events of the game.
+ * <p>
+ * Objects, enigmas and items are counted by name, so an event received twice,
+ * e.g. an object unlocked again, does not change the counts.
+ * </p>
+ */
+public final class ProgressTracker implements Progress, GameEventListener {
+
+    private final Set<String> unlocked = ConcurrentHashMap.newKeySet();
+    private final Set<String> solved = ConcurrentHashMap.newKeySet();
+    private final Set<String> picked = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a tracker starting from the given progress, e.g. of a loaded game.
+     *
+     * @param unlocked the names of the objects already unlocked
+     * @param solved the names of the enigmas already solved
+     * @param picked the names of the items already picked up
+     */
+    public ProgressTracker(final Collection<String> unlocked, final Collection<String> solved,
+        final Collection<String> picked) {
+        this.unlocked.addAll(unlocked);
+        this.solved.addAll(solved);
+        this.picked.addAll(picked);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(final GameEvent event) {
+        switch (event.type()) {
+            case UNLOCKED -> unlocked.add(event.source());
+            case SOLVED -> solved.add(event.source());
+            case PICKED -> picked.add(event.source());
+            default -> { }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getUnlockedCount() {
+        return unlocked.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSolvedCount() {
+        return solved.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPickedCount() {
+        return picked.size();
+    }
+}
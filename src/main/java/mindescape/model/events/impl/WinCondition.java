@@ -0,0 +1,48 @@
+package mindescape.model.events.impl;
+
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+
+/**
+ * Condition met once a given object has been unlocked.
+ * <p>
+ * The condition is evaluated when the unlock event arrives, so checking it,
+ * which the game loop does every tick, costs a single volatile read.
+ * </p>
+ */
+public final class WinCondition implements GameEventListener {
+
+    private final String objectName;
+    private volatile boolean met;
+
+    /**
+     * Constructs the condition.
+     *
+     * @param objectName the name of the object to unlock
+     * @param met whether the object is already unlocked, e.g. in a loaded game
+     */
+    public WinCondition(final String objectName, final boolean met) {
+        this.objectName = objectName;
+        this.met = met;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(final GameEvent event) {
+        if (event.type() == GameEventType.UNLOCKED && objectName.equals(event.source())) {
+            met = true;
+        }
+    }
+
+    /**
+     * Checks whether the condition is met.
+     *
+     * @return true if the object has been unlocked, false otherwise
+     */
+    public boolean isMet() {
+        return met;
+    }
+}
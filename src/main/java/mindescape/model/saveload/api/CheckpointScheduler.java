@@ -0,0 +1,23 @@
+package mindescape.model.saveload.api;
+
+/**
+ * Takes checkpoints of a world, i.e. automatic saves, at regular intervals and when the player
+ * makes progress, keeping a bounded number of them per player.
+ */
+public interface CheckpointScheduler extends AutoCloseable {
+
+    /**
+     * Called by the game loop at every tick: takes a checkpoint if the interval has elapsed since
+     * the last one or a key event happened in the meantime. Only the state of the world is captured
+     * on the calling thread; the checkpoint is encoded and written in the background.
+     *
+     * @param now the current value of {@link System#nanoTime()}
+     */
+    void tick(long now);
+
+    /**
+     * Stops listening to the events of the world; no checkpoint is taken afterwards.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,30 @@
+package mindescape.model.saveload.api;
+
+import java.util.List;
+
+/**
+ * An index of the saves in the save folder, kept up to date as saves are written,
+ * so they can be listed without reading the folder.
+ */
+public interface SaveCatalog extends AutoCloseable {
+
+    /**
+     * Returns the saves, most recent first.
+     *
+     * @return the saves
+     */
+    List<SaveEntry> getEntries();
+
+    /**
+     * Records a save which has just been written.
+     *
+     * @param entry the description of the save
+     */
+    void record(SaveEntry entry);
+
+    /**
+     * Stops following the changes to the save folder.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,17 @@
+package mindescape.model.saveload.api;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The description of a save, as kept by the {@link SaveCatalog}.
+ *
+ * @param name the name of the save, i.e. the name of its file without extension
+ * @param file the save file
+ * @param timestamp the time the save was written, in milliseconds since the epoch
+ * @param room the room the player was in, empty if unknown
+ * @param playTime the time the player had spent playing, zero if unknown
+ * @param size the size of the save file, in bytes
+ */
+public record SaveEntry(String name, Path file, long timestamp, String room, Duration playTime, long size) {
+}
@@ -0,0 +1,29 @@
+package mindescape.model.saveload.api;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * What is shown about a save before loading it, kept in a fixed-size block at the start
+ * of the save file so that it can be read without decoding the rest of the save.
+ *
+ * @param username the name of the player
+ * @param room the room the player was in
+ * @param inventoryCount the number of items in the inventory of the player
+ * @param solvedCount the number of enigmas solved by the player
+ * @param timestamp the time the game was saved, in milliseconds since the epoch
+ * @param playTime the time the player had spent playing
+ * @param thumbnail a picture of the room the player was in, null if none
+ */
+public record SavePreview(String username, String room, int inventoryCount, int solvedCount,
+        long timestamp, Duration playTime, Thumbnail thumbnail) {
+
+    /**
+     * Returns the picture of the room the player was in.
+     *
+     * @return the thumbnail, if the save has one
+     */
+    public Optional<Thumbnail> getThumbnail() {
+        return Optional.ofNullable(thumbnail);
+    }
+}
@@ -0,0 +1,39 @@
+package mindescape.model.saveload.api;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes saves in the background, one at a time, in the order they are submitted.
+ */
+public interface SaveService extends AutoCloseable {
+
+    /**
+     * Submits a snapshot to be encoded and written to the save named after the player.
+     *
+     * @param snapshot the snapshot
+     * @return a future completed with the save file once it is durable on disk,
+     *     or exceptionally if the save failed
+     * @throws IllegalStateException if the service has been closed
+     */
+    default CompletableFuture<Path> save(SaveSnapshot snapshot) {
+        return save(snapshot, snapshot.getUsername());
+    }
+
+    /**
+     * Submits a snapshot to be encoded and written to the save with the given name.
+     *
+     * @param snapshot the snapshot
+     * @param name the name of the save file, without extension
+     * @return a future completed with the save file once it is durable on disk,
+     *     or exceptionally if the save failed
+     * @throws IllegalStateException if the service has been closed
+     */
+    CompletableFuture<Path> save(SaveSnapshot snapshot, String name);
+
+    /**
+     * Stops accepting saves and waits until the submitted ones are written.
+     */
+    @Override
+    void close();
+}
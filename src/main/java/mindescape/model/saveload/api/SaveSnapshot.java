@@ -0,0 +1,31 @@
+package mindescape.model.saveload.api;
+
+import mindescape.model.saveload.codec.SaveOutput;
+
+/**
+ * The state of a world to be saved, captured at a given moment, which can be encoded
+ * afterwards on another thread while the world keeps changing.
+ */
+public interface SaveSnapshot {
+
+    /**
+     * Returns the name of the player, which names the save file.
+     *
+     * @return the name of the player
+     */
+    String getUsername();
+
+    /**
+     * Returns what is shown about the save before loading it, written at the start of the save file.
+     *
+     * @return the preview of the save
+     */
+    SavePreview getPreview();
+
+    /**
+     * Writes the save, header included, but not the preview.
+     *
+     * @param out the output
+     */
+    void encode(SaveOutput out);
+}
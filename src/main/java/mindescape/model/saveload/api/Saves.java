@@ -16,4 +16,11 @@ public interface Saves extends Model {
      */
     List<File> getSortedSaveFiles();
 
+    /**
+     * Retrieves the descriptions of the saves, sorted by the time they were written in descending order.
+     *
+     * @return a list of sorted saves.
+     */
+    List<SaveEntry> getSortedSaves();
+
 }
@@ -0,0 +1,58 @@
+package mindescape.model.saveload.api;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A small picture of the game, shown along with a save, with pixels in the RGB 5-6-5 format,
+ * i.e. two bytes per pixel, row by row.
+ *
+ * @param width the width of the picture, in pixels
+ * @param height the height of the picture, in pixels
+ * @param pixels the pixels, {@code width * height} of them
+ */
+public record Thumbnail(int width, int height, short[] pixels) {
+
+    /**
+     * Constructs a thumbnail, copying the pixels.
+     *
+     * @param width the width of the picture, in pixels
+     * @param height the height of the picture, in pixels
+     * @param pixels the pixels, {@code width * height} of them
+     * @throws IllegalArgumentException if the number of pixels does not match the size
+     */
+    public Thumbnail {
+        Objects.requireNonNull(pixels);
+        if (width < 0 || height < 0 || pixels.length != width * height) {
+            throw new IllegalArgumentException("Thumbnail of " + width + "x" + height
+                + " with " + pixels.length + " pixels");
+        }
+        pixels = pixels.clone();
+    }
+
+    /**
+     * Returns a copy of the pixels.
+     *
+     * @return the pixels, row by row
+     */
+    @Override
+    public short[] pixels() {
+        return pixels.clone();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Thumbnail other && width == other.width && height == other.height
+            && Arrays.equals(pixels, other.pixels);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(width, height, Arrays.hashCode(pixels));
+    }
+
+    @Override
+    public String toString() {
+        return "Thumbnail[" + width + "x" + height + "]";
+    }
+}
@@ -0,0 +1,86 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import mindescape.model.saveload.api.SaveEntry;
+
+/**
+ * Encodes the index of a {@link mindescape.model.saveload.api.SaveCatalog}: a header followed
+ * by a record for every save, with the same tagged fields as the saves themselves.
+ */
+public final class CatalogCodec {
+
+    private static final byte[] MAGIC = "MECT".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final String SAVE_EXTENSION = ".sav";
+
+    private static final int ENTRY = 1;
+
+    private static final int NAME = 1;
+    private static final int TIMESTAMP = 2;
+    private static final int ROOM = 3;
+    private static final int PLAY_TIME = 4;
+    private static final int SIZE = 5;
+
+    private static final int TYPE_MASK = (1 << WireType.BITS) - 1;
+
+    private CatalogCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes an index.
+     *
+     * @param entries the saves
+     * @param out the output
+     */
+    public static void encode(final Collection<SaveEntry> entries, final SaveOutput out) {
+        out.writeBytes(MAGIC).writeVarint(VERSION);
+        for (final SaveEntry entry : entries) {
+            out.writeMessage(ENTRY, new SaveOutput()
+                .writeString(NAME, entry.name())
+                .writeInt(TIMESTAMP, entry.timestamp())
+                .writeString(ROOM, entry.room())
+                .writeInt(PLAY_TIME, entry.playTime().toMillis())
+                .writeInt(SIZE, entry.size()));
+        }
+    }
+
+    /**
+     * Reads an index.
+     *
+     * @param in the input
+     * @param directory the folder of the saves
+     * @return the saves
+     * @throws CorruptSaveException if the input is not a valid index
+     */
+    public static List<SaveEntry> decode(final SaveInput in, final Path directory) {
+        for (final byte b : MAGIC) {
+            if (in.readByte() != b) {
+                throw new CorruptSaveException("Not a save catalog");
+            }
+        }
+        if (in.readVarint() > VERSION) {
+            throw new CorruptSaveException("Catalog written by a newer version of the game");
+        }
+        final List<SaveEntry> entries = new ArrayList<>();
+        while (in.hasRemaining()) {
+            final long tag = in.readVarint();
+            final WireType type = WireType.fromCode((int) tag & TYPE_MASK);
+            if (type != WireType.LENGTH_DELIMITED || tag >>> WireType.BITS != ENTRY) {
+                in.skip(type);
+                continue;
+            }
+            final Fields fields = Fields.read(in.readLengthDelimited());
+            final String name = fields.getString(NAME, "");
+            entries.add(new SaveEntry(name, directory.resolve(name + SAVE_EXTENSION),
+                fields.getLong(TIMESTAMP, 0), fields.getString(ROOM, ""),
+                Duration.ofMillis(Math.max(0, fields.getLong(PLAY_TIME, 0))), fields.getLong(SIZE, 0)));
+        }
+        return entries;
+    }
+}
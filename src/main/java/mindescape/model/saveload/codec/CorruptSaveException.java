@@ -0,0 +1,18 @@
+package mindescape.model.saveload.codec;
+
+/**
+ * Thrown when the content of a save cannot be decoded.
+ */
+public final class CorruptSaveException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception.
+     *
+     * @param message the reason why the save cannot be decoded
+     */
+    public CorruptSaveException(final String message) {
+        super(message);
+    }
+}
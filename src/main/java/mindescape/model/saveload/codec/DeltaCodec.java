@@ -0,0 +1,360 @@
+package mindescape.model.saveload.codec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.enigma.caesarcipher.impl.CaesarCipherModelImpl;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.api.Thumbnail;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithPickable;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.interactable.impl.RewardFactory;
+import mindescape.model.world.items.interactable.impl.UnpickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Encodes only the state of a {@link World} which can change while playing, and applies it back
+ * to the world freshly loaded from the maps.
+ * <p>
+ * A delta save holds the player, the names of the items in the inventory, the objects which have
+ * been unlocked and the state of the enigmas which have been solved or, for puzzles, moved.
+ * Objects are referred to by the name of their room and their own name, followed by their rank
+ * among the objects of the room with the same name, ordered by position, when the name is not unique.
+ * Everything else, from the geometry to the descriptions of the rewards, comes from the maps,
+ * so the saves are small and keep working when the maps are edited: state referring to objects
+ * which no longer exist is dropped.
+ * </p>
+ * <p>
+ * The pickables in the inventory which are found in the rooms of the maps are removed from them
+ * when the save is loaded, as they have been picked up.
+ * </p>
+ */
+public final class DeltaCodec {
+
+    private static final int PLAYER = 1;
+    private static final int INVENTORY = 2;
+    private static final int UNLOCKED = 3;
+    private static final int ENIGMA = 4;
+
+    private static final int PLAYER_NAME = 1;
+    private static final int PLAYER_ROOM = 2;
+    private static final int PLAYER_X = 3;
+    private static final int PLAYER_Y = 4;
+    private static final int PLAYER_PLAY_TIME = 5;
+
+    private static final int ROOM = 1;
+    private static final int OBJECT = 2;
+    private static final int RANK = 3;
+    private static final int SOLVED = 4;
+    private static final int PIECES = 5;
+
+    private static final int TYPE_MASK = (1 << WireType.BITS) - 1;
+    private static final Comparator<GameObject> BY_POSITION = Comparator
+        .comparingDouble(GameObject::getY)
+        .thenComparingDouble(GameObject::getX);
+
+    private DeltaCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes the state of a world which differs from the maps, header included.
+     *
+     * @param world the world
+     * @param out the output
+     */
+    public static void encode(final World world, final SaveOutput out) {
+        capture(world).encode(out);
+    }
+
+    /**
+     * Captures the state of a world which differs from the maps, to be encoded later.
+     * It has to be called by the thread changing the world, but it is cheap, as the state is small.
+     *
+     * @param world the world
+     * @return the snapshot of the state
+     */
+    public static SaveSnapshot capture(final World world) {
+        return capture(world, null);
+    }
+
+    /**
+     * Captures the state of a world which differs from the maps, to be encoded later,
+     * along with its preview.
+     * It has to be called by the thread changing the world, but it is cheap, as the state is small.
+     *
+     * @param world the world
+     * @param thumbnail the picture of the current room shown in the preview, null if none
+     * @return the snapshot of the state
+     */
+    public static SaveSnapshot capture(final World world, final Thumbnail thumbnail) {
+        final Player player = world.getPlayer();
+        final List<Key> unlocked = new ArrayList<>();
+        final List<EnigmaState> enigmas = new ArrayList<>();
+        for (final Room room : world.getRooms()) {
+            for (final GameObject object : room.getGameObjects()) {
+                if (isUnlocked(object)) {
+                    unlocked.add(Key.of(room, object));
+                }
+                enigmaOf(object)
+                    .flatMap(enigma -> EnigmaState.of(Key.of(room, object), enigma))
+                    .ifPresent(enigmas::add);
+            }
+        }
+        return new Delta(PreviewCodec.capture(world, thumbnail), player.getX(), player.getY(), player.getInventory().getItems().stream().map(Pickable::getName).toList(),
+            List.copyOf(unlocked), List.copyOf(enigmas));
+    }
+
+    /**
+     * Reads a delta save, applying it to the rooms loaded from the maps of the game,
+     * and migrates the result to the current version of the schema.
+     *
+     * @param in the input
+     * @return the world
+     * @throws CorruptSaveException if the input is not a valid delta save
+     */
+    public static World decode(final SaveInput in) {
+        return decode(in, RoomImpl::createRooms);
+    }
+
+    /**
+     * Reads a delta save, applying it to the given rooms,
+     * and migrates the result to the current version of the schema.
+     *
+     * @param in the input
+     * @param pristine the supplier of the rooms the save has to be applied to, as loaded from the maps
+     * @return the world
+     * @throws CorruptSaveException if the input is not a valid delta save
+     */
+    public static World decode(final SaveInput in, final Supplier<List<Room>> pristine) {
+        final int version = SaveFormat.readDeltaHeader(in);
+        final List<Room> rooms = new ArrayList<>(pristine.get());
+        final Map<String, Room> roomsByName = rooms.stream()
+            .collect(Collectors.toMap(Room::getName, Function.identity()));
+        Fields player = null;
+        final List<String> inventory = new ArrayList<>();
+        while (in.hasRemaining()) {
+            final long tag = in.readVarint();
+            final WireType type = WireType.fromCode((int) tag & TYPE_MASK);
+            if (type != WireType.LENGTH_DELIMITED) {
+                in.skip(type);
+                continue;
+            }
+            final SaveInput record = in.readLengthDelimited();
+            switch ((int) (tag >>> WireType.BITS)) {
+                case PLAYER -> player = Fields.read(record);
+                case INVENTORY -> inventory.add(record.remainingAsString());
+                case UNLOCKED -> find(roomsByName, Fields.read(record)).ifPresent(DeltaCodec::unlock);
+                case ENIGMA -> {
+                    final Fields fields = Fields.read(record);
+                    find(roomsByName, fields).flatMap(DeltaCodec::enigmaOf)
+                        .ifPresent(enigma -> restore(enigma, fields));
+                }
+                default -> {
+                    // a record added by a newer schema, ignored
+                }
+            }
+        }
+        if (player == null) {
+            throw new CorruptSaveException("The save has no player");
+        }
+        final Room room = roomsByName.get(player.getString(PLAYER_ROOM, ""));
+        if (room == null) {
+            throw new CorruptSaveException("The room of the player no longer exists");
+        }
+        final Player restored = new PlayerImpl(
+            new Point2D(player.getDouble(PLAYER_X, 0), player.getDouble(PLAYER_Y, 0)),
+            player.getString(PLAYER_NAME, ""), Dimensions.TILE, room);
+        inventory.forEach(name -> pick(rooms, name).ifPresent(restored.getInventory()::addItems));
+        room.addGameObject(restored);
+        final World world = new WorldImpl(rooms, restored);
+        world.addPlayTime(Duration.ofMillis(Math.max(0, player.getLong(PLAYER_PLAY_TIME, 0))));
+        return WorldCodec.migrate(world, version);
+    }
+
+    private static Optional<GameObject> find(final Map<String, Room> rooms, final Fields key) {
+        final Room room = rooms.get(key.getString(ROOM, ""));
+        if (room == null) {
+            return Optional.empty();
+        }
+        final String name = key.getString(OBJECT, "");
+        return room.getGameObjects().stream()
+            .filter(object -> name.equals(object.getName()))
+            .sorted(BY_POSITION)
+            .skip(key.has(RANK) ? key.getUnsigned(RANK) : 0)
+            .findFirst();
+    }
+
+    private static boolean isUnlocked(final GameObject object) {
+        return object instanceof LockedUnpickable locked && locked.isUnlocked()
+            || object instanceof UnpickableImpl unpickable && unpickable.isUnlocked()
+            || object instanceof DoorLockedWithPickable door && door.isUnlocked();
+    }
+
+    private static void unlock(final GameObject object) {
+        if (object instanceof LockedUnpickable locked) {
+            locked.setUnlocked(true);
+        } else if (object instanceof UnpickableImpl unpickable) {
+            unpickable.setUnlocked(true);
+        } else if (object instanceof DoorLockedWithPickable door) {
+            door.setUnlocked(true);
+        }
+    }
+
+    private static Optional<Enigma> enigmaOf(final GameObject object) {
+        if (object instanceof UnpickableWithEnigmaImpl unpickable) {
+            return Optional.ofNullable(unpickable.getEnigma());
+        } else if (object instanceof DoorLockedWithEnigma door) {
+            return Optional.ofNullable(door.getEnigma());
+        }
+        return Optional.empty();
+    }
+
+    private static void restore(final Enigma enigma, final Fields fields) {
+        if (enigma instanceof EnigmaPasswordModelImpl password) {
+            password.setSolved(fields.getBoolean(SOLVED));
+        } else if (enigma instanceof CaesarCipherModelImpl caesar) {
+            caesar.setSolved(fields.getBoolean(SOLVED));
+        } else if (enigma instanceof EnigmaPuzzleModelImpl puzzle) {
+            final int[] pieces = fields.getPacked(PIECES);
+            if (pieces.length == puzzle.getRows() * puzzle.getCols()) {
+                final Integer[][] rows = new Integer[puzzle.getRows()][puzzle.getCols()];
+                for (int i = 0; i < pieces.length; i++) {
+                    rows[i / puzzle.getCols()][i % puzzle.getCols()] = pieces[i];
+                }
+                puzzle.setPieces(rows);
+            }
+        }
+    }
+
+    /**
+     * Finds the item of the inventory with the given name: a pickable of the maps, which is removed
+     * from its room, the reward of an object of the maps or, failing that, a new reward.
+     */
+    private static Optional<Pickable> pick(final List<Room> rooms, final String name) {
+        for (final Room room : rooms) {
+            final Optional<Pickable> picked = room.getGameObjects().stream()
+                .filter(object -> object instanceof Pickable && name.equals(object.getName()))
+                .map(Pickable.class::cast)
+                .findFirst();
+            if (picked.isPresent()) {
+                room.removeGameObject(picked.get());
+                return picked;
+            }
+        }
+        return rooms.stream()
+            .flatMap(room -> room.getGameObjects().stream())
+            .map(DeltaCodec::rewardOf)
+            .filter(reward -> reward != null && name.equals(reward.getName()))
+            .findFirst()
+            .or(() -> Optional.ofNullable(new RewardFactory().getReward(name)));
+    }
+
+    private static Pickable rewardOf(final GameObject object) {
+        if (object instanceof LockedUnpickable locked) {
+            return locked.getReward();
+        } else if (object instanceof UnpickableImpl unpickable) {
+            return unpickable.getReward();
+        } else if (object instanceof UnpickableWithEnigmaImpl unpickable) {
+            return unpickable.getReward();
+        }
+        return null;
+    }
+
+    /**
+     * The state of a world which differs from the maps.
+     */
+    private record Delta(SavePreview preview, double x, double y,
+            List<String> inventory, List<Key> unlocked, List<EnigmaState> enigmas) implements SaveSnapshot {
+
+        @Override
+        public String getUsername() {
+            return preview.username();
+        }
+
+        @Override
+        public SavePreview getPreview() {
+            return preview;
+        }
+
+        @Override
+        public void encode(final SaveOutput out) {
+            SaveFormat.writeDeltaHeader(out);
+            out.writeMessage(PLAYER, new SaveOutput()
+                .writeString(PLAYER_NAME, preview.username())
+                .writeString(PLAYER_ROOM, preview.room())
+                .writeDouble(PLAYER_X, x)
+                .writeDouble(PLAYER_Y, y)
+                .writeInt(PLAYER_PLAY_TIME, preview.playTime().toMillis()));
+            inventory.forEach(item -> out.writeString(INVENTORY, item));
+            unlocked.forEach(key -> out.writeMessage(UNLOCKED, key.write()));
+            enigmas.forEach(enigma -> out.writeMessage(ENIGMA, enigma.write()));
+        }
+    }
+
+    /**
+     * The reference to an object of the maps.
+     */
+    private record Key(String room, String object, int rank) {
+
+        static Key of(final Room room, final GameObject object) {
+            final int rank = (int) room.getGameObjects().stream()
+                .filter(other -> other.getName().equals(object.getName()) && BY_POSITION.compare(other, object) < 0)
+                .count();
+            return new Key(room.getName(), object.getName(), rank);
+        }
+
+        SaveOutput write() {
+            final SaveOutput key = new SaveOutput()
+                .writeString(ROOM, room)
+                .writeString(OBJECT, object);
+            return rank == 0 ? key : key.writeUnsigned(RANK, rank);
+        }
+    }
+
+    /**
+     * The state of an enigma which differs from the one of a new enigma.
+     */
+    private record EnigmaState(Key key, boolean solved, List<Integer> pieces) {
+
+        static Optional<EnigmaState> of(final Key key, final Enigma enigma) {
+            if (enigma instanceof EnigmaPuzzleModelImpl puzzle) {
+                final List<Integer> pieces = new ArrayList<>(puzzle.getRows() * puzzle.getCols());
+                boolean moved = false;
+                for (int i = 0; i < puzzle.getRows() * puzzle.getCols(); i++) {
+                    pieces.add(puzzle.getPiece(i / puzzle.getCols(), i % puzzle.getCols()));
+                    moved |= pieces.get(i) != i;
+                }
+                return moved ? Optional.of(new EnigmaState(key, false, List.copyOf(pieces))) : Optional.empty();
+            }
+            return enigma.isSolved() ? Optional.of(new EnigmaState(key, true, List.of())) : Optional.empty();
+        }
+
+        SaveOutput write() {
+            return key.write()
+                .writeBoolean(SOLVED, solved)
+                .writePacked(PIECES, pieces.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
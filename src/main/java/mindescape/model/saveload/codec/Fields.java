@@ -0,0 +1,108 @@
+package mindescape.model.saveload.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The fields of a decoded message, by number.
+ * <p>
+ * Reading a field which is missing, e.g. because the save was written by an older version
+ * of the game, returns the given default value; fields the reader does not know are ignored.
+ * If a field appears more than once the last value wins.
+ * </p>
+ */
+final class Fields {
+
+    private static final int TYPE_MASK = (1 << WireType.BITS) - 1;
+    private final Map<Integer, Object> values = new HashMap<>();
+
+    private Fields() {
+    }
+
+    /**
+     * Reads the fields of a message until the end of the input.
+     *
+     * @param in the content of the message
+     * @return the fields of the message
+     */
+    static Fields read(final SaveInput in) {
+        final Fields fields = new Fields();
+        while (in.hasRemaining()) {
+            final long tag = in.readVarint();
+            final int field = (int) (tag >>> WireType.BITS);
+            switch (WireType.fromCode((int) tag & TYPE_MASK)) {
+                case VARINT -> fields.values.put(field, in.readVarint());
+                case FIXED64 -> fields.values.put(field, in.readDouble());
+                case LENGTH_DELIMITED -> fields.values.put(field, in.readLengthDelimited());
+                default -> throw new CorruptSaveException("Unknown wire type in tag " + tag);
+            }
+        }
+        return fields;
+    }
+
+    boolean has(final int field) {
+        return values.containsKey(field);
+    }
+
+    int getInt(final int field, final int defaultValue) {
+        final Object value = get(field, Long.class);
+        if (value == null) {
+            return defaultValue;
+        }
+        final long raw = (Long) value;
+        return (int) (raw >>> 1 ^ -(raw & 1));
+    }
+
+    long getLong(final int field, final long defaultValue) {
+        final Object value = get(field, Long.class);
+        if (value == null) {
+            return defaultValue;
+        }
+        final long raw = (Long) value;
+        return raw >>> 1 ^ -(raw & 1);
+    }
+
+    int getUnsigned(final int field) {
+        final Object value = get(field, Long.class);
+        if (value == null) {
+            throw new CorruptSaveException("Missing field " + field);
+        }
+        return (int) (long) (Long) value;
+    }
+
+    boolean getBoolean(final int field) {
+        final Object value = get(field, Long.class);
+        return value != null && (Long) value != 0;
+    }
+
+    double getDouble(final int field, final double defaultValue) {
+        final Object value = values.get(field);
+        if (value instanceof Long raw) {
+            return raw >>> 1 ^ -(raw & 1);
+        }
+        return value == null ? defaultValue : (Double) get(field, Double.class);
+    }
+
+    String getString(final int field, final String defaultValue) {
+        final Object value = get(field, SaveInput.class);
+        return value == null ? defaultValue : ((SaveInput) value).copy().remainingAsString();
+    }
+
+    byte[] getBytes(final int field) {
+        final Object value = get(field, SaveInput.class);
+        return value == null ? new byte[0] : ((SaveInput) value).copy().remainingAsBytes();
+    }
+
+    int[] getPacked(final int field) {
+        final Object value = get(field, SaveInput.class);
+        return value == null ? new int[0] : ((SaveInput) value).copy().remainingAsPacked();
+    }
+
+    private Object get(final int field, final Class<?> type) {
+        final Object value = values.get(field);
+        if (value != null && !type.isInstance(value)) {
+            throw new CorruptSaveException("Field " + field + " has an unexpected wire type");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package mindescape.model.saveload.codec;
+
+import mindescape.model.enigma.caesarcipher.impl.CaesarCipherModelImpl;
+import mindescape.model.enigma.calendar.Calendar;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.world.items.interactable.impl.DoorImpl;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithPickable;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.items.noninteractable.impl.NonInteractableImpl;
+
+/**
+ * The kinds of object a save can contain, each one identified by a code which must never change.
+ */
+enum ObjectKind {
+    NON_INTERACTABLE(1, NonInteractableImpl.class),
+    PICKABLE(2, PickableImpl.class),
+    UNPICKABLE(3, UnpickableImpl.class),
+    LOCKED_UNPICKABLE(4, LockedUnpickable.class),
+    UNPICKABLE_WITH_ENIGMA(5, UnpickableWithEnigmaImpl.class),
+    DOOR(6, DoorImpl.class),
+    DOOR_LOCKED_WITH_PICKABLE(7, DoorLockedWithPickable.class),
+    DOOR_LOCKED_WITH_ENIGMA(8, DoorLockedWithEnigma.class),
+    ENIGMA_PASSWORD(16, EnigmaPasswordModelImpl.class),
+    ENIGMA_CAESAR_CIPHER(17, CaesarCipherModelImpl.class),
+    ENIGMA_PUZZLE(18, EnigmaPuzzleModelImpl.class),
+    ENIGMA_CALENDAR(19, Calendar.class);
+
+    private final int code;
+    private final Class<?> type;
+
+    ObjectKind(final int code, final Class<?> type) {
+        this.code = code;
+        this.type = type;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    /**
+     * Retrieves the kind of an object, matching its exact class: a subclass may have state
+     * the codec does not know about.
+     *
+     * @param object the object
+     * @return the kind of the object
+     * @throws IllegalArgumentException if the object cannot be saved
+     */
+    static ObjectKind of(final Object object) {
+        for (final ObjectKind kind : values()) {
+            if (kind.type == object.getClass()) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Cannot save objects of type " + object.getClass().getName());
+    }
+
+    /**
+     * Retrieves the kind with the given code.
+     *
+     * @param code the code
+     * @return the kind
+     * @throws CorruptSaveException if the code is unknown
+     */
+    static ObjectKind fromCode(final int code) {
+        for (final ObjectKind kind : values()) {
+            if (kind.code == code) {
+                return kind;
+            }
+        }
+        throw new CorruptSaveException("Unknown object kind: " + code);
+    }
+}
@@ -0,0 +1,221 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.Thumbnail;
+import mindescape.model.world.api.World;
+import mindescape.model.world.player.api.Player;
+
+/**
+ * Encodes the {@link SavePreview} written at the start of a save file.
+ * <p>
+ * The block of the preview holds {@link #MAGIC}, a version and the preview, as a length delimited
+ * message, so it takes only the bytes of its content: the first {@link #PREFIX_SIZE} bytes of a
+ * file tell the size of the block, see {@link #blockSize(ByteBuffer)}, which can then be read on its
+ * own. A block never exceeds {@link #MAX_SIZE} bytes: previews which do not fit lose their thumbnail
+ * and, if still too large, all of their content, and the save is written anyway.
+ * Saves written before previews existed have no block and start directly with the save.
+ * </p>
+ */
+public final class PreviewCodec {
+
+    /**
+     * The largest size of the block holding a preview, in bytes.
+     */
+    public static final int MAX_SIZE = 8192;
+
+    /**
+     * The number of bytes at the start of a block enough to know its size: the magic bytes,
+     * the version and a size of at most two bytes, as the block fits in {@link #MAX_SIZE} bytes.
+     */
+    public static final int PREFIX_SIZE = 4 + 1 + 2;
+
+    /**
+     * The bytes every preview starts with.
+     */
+    private static final byte[] MAGIC = "MEPV".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 2;
+    private static final int BYTE_BITS = 8;
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int USERNAME = 1;
+    private static final int ROOM = 2;
+    private static final int INVENTORY_COUNT = 3;
+    private static final int SOLVED_COUNT = 4;
+    private static final int TIMESTAMP = 5;
+    private static final int THUMBNAIL_WIDTH = 6;
+    private static final int THUMBNAIL_HEIGHT = 7;
+    private static final int THUMBNAIL_PIXELS = 8;
+    private static final int PLAY_TIME = 9;
+
+    private PreviewCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Captures the preview of a world, at the current time.
+     * It has to be called by the thread changing the world.
+     *
+     * @param world the world
+     * @param thumbnail the picture of the current room, null if none
+     * @return the preview
+     */
+    public static SavePreview capture(final World world, final Thumbnail thumbnail) {
+        final Player player = world.getPlayer();
+        return new SavePreview(player.getName(), player.getCurrentRoom().getName(),
+            player.getInventory().getItems().size(), world.getProgress().getSolvedCount(),
+            System.currentTimeMillis(), world.getPlayTime(), thumbnail);
+    }
+
+    /**
+     * Writes the block holding a preview, at most {@link #MAX_SIZE} bytes long.
+     *
+     * @param preview the preview
+     * @param out the output
+     */
+    public static void encode(final SavePreview preview, final SaveOutput out) {
+        final int capacity = MAX_SIZE - PREFIX_SIZE;
+        SaveOutput message = write(preview, true);
+        if (message.size() > capacity) {
+            message = write(preview, false);
+        }
+        if (message.size() > capacity) {
+            message = new SaveOutput();
+        }
+        final ByteBuffer content = message.toByteBuffer();
+        final byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        out.writeBytes(MAGIC).writeVarint(VERSION).writeVarint(bytes.length).writeBytes(bytes);
+    }
+
+    /**
+     * Checks if the data starts with a preview, without consuming it.
+     *
+     * @param data the data
+     * @return true if the data starts with a preview
+     */
+    public static boolean hasPreview(final ByteBuffer data) {
+        if (data.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data.get(data.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells the size of the block of the preview the data starts with, without consuming it.
+     * The data does not need to go beyond its first {@link #PREFIX_SIZE} bytes.
+     *
+     * @param data the data
+     * @return the size of the block, in bytes, or 0 if the data does not start with a preview
+     * @throws CorruptSaveException if the block is not valid
+     */
+    public static int blockSize(final ByteBuffer data) {
+        if (!hasPreview(data)) {
+            return 0;
+        }
+        final SaveInput in = new SaveInput(data);
+        readHeader(in);
+        final long length = in.readVarint();
+        final long size = in.position() + length;
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new CorruptSaveException("Invalid preview size: " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Reads the preview the data starts with, without consuming it.
+     * The data does not need to go beyond the block of the preview.
+     *
+     * @param data the data
+     * @return the preview, or empty if the data does not start with one
+     * @throws CorruptSaveException if the preview is not valid
+     */
+    public static Optional<SavePreview> decode(final ByteBuffer data) {
+        if (!hasPreview(data)) {
+            return Optional.empty();
+        }
+        final SaveInput in = new SaveInput(data);
+        readHeader(in);
+        final Fields fields = Fields.read(in.readLengthDelimited());
+        final int width = fields.getInt(THUMBNAIL_WIDTH, 0);
+        final int height = fields.getInt(THUMBNAIL_HEIGHT, 0);
+        final byte[] bytes = fields.getBytes(THUMBNAIL_PIXELS);
+        Thumbnail thumbnail = null;
+        if (width > 0 && height > 0) {
+            if (bytes.length != width * height * Short.BYTES) {
+                throw new CorruptSaveException("Thumbnail of " + width + "x" + height + " in " + bytes.length + " bytes");
+            }
+            final short[] pixels = new short[width * height];
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = (short) (bytes[2 * i] & BYTE_MASK | (bytes[2 * i + 1] & BYTE_MASK) << BYTE_BITS);
+            }
+            thumbnail = new Thumbnail(width, height, pixels);
+        }
+        return Optional.of(new SavePreview(fields.getString(USERNAME, ""), fields.getString(ROOM, ""),
+            fields.getInt(INVENTORY_COUNT, 0), fields.getInt(SOLVED_COUNT, 0), fields.getLong(TIMESTAMP, 0),
+            Duration.ofMillis(fields.getLong(PLAY_TIME, 0)), thumbnail));
+    }
+
+    /**
+     * Skips the preview the data starts with, if any, so that the data is positioned at the save.
+     *
+     * @param data the data
+     * @return the data
+     * @throws CorruptSaveException if the block of the preview is not valid
+     */
+    public static ByteBuffer skip(final ByteBuffer data) {
+        final int size = blockSize(data);
+        if (size > data.remaining()) {
+            throw new CorruptSaveException("Truncated preview");
+        }
+        data.position(data.position() + size);
+        return data;
+    }
+
+    /**
+     * Reads the magic bytes and the version of a preview.
+     */
+    private static void readHeader(final SaveInput in) {
+        for (final byte b : MAGIC) {
+            if (in.readByte() != (b & BYTE_MASK)) {
+                throw new CorruptSaveException("Not a preview");
+            }
+        }
+        final long version = in.readVarint();
+        if (version != VERSION) {
+            throw new CorruptSaveException("Unsupported preview version: " + version);
+        }
+    }
+
+    private static SaveOutput write(final SavePreview preview, final boolean withThumbnail) {
+        final SaveOutput message = new SaveOutput()
+            .writeString(USERNAME, preview.username())
+            .writeString(ROOM, preview.room())
+            .writeInt(INVENTORY_COUNT, preview.inventoryCount())
+            .writeInt(SOLVED_COUNT, preview.solvedCount())
+            .writeInt(TIMESTAMP, preview.timestamp())
+            .writeInt(PLAY_TIME, preview.playTime().toMillis());
+        if (withThumbnail && preview.thumbnail() != null) {
+            final Thumbnail thumbnail = preview.thumbnail();
+            final short[] pixels = thumbnail.pixels();
+            final byte[] bytes = new byte[pixels.length * Short.BYTES];
+            for (int i = 0; i < pixels.length; i++) {
+                bytes[2 * i] = (byte) pixels[i];
+                bytes[2 * i + 1] = (byte) (pixels[i] >> BYTE_BITS);
+            }
+            message.writeInt(THUMBNAIL_WIDTH, thumbnail.width())
+                .writeInt(THUMBNAIL_HEIGHT, thumbnail.height())
+                .writeBytes(THUMBNAIL_PIXELS, bytes);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,128 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants of the binary save format.
+ * <p>
+ * A save starts with {@link #MAGIC} followed by the version of the schema it was written with,
+ * as a varint. Saves written before the binary format existed, with Java serialization,
+ * are considered version {@link #LEGACY_VERSION}.
+ * Delta saves, which only hold what changed with respect to the maps, start with {@link #DELTA_MAGIC}
+ * instead and share the same versioning.
+ * </p>
+ */
+public final class SaveFormat {
+
+    /**
+     * The version of the saves written by Java serialization.
+     */
+    public static final int LEGACY_VERSION = 0;
+
+    /**
+     * The version of the schema written by this version of the game.
+     */
+    public static final int CURRENT_VERSION = 1;
+
+    /**
+     * The bytes every binary save starts with.
+     */
+    private static final byte[] MAGIC = "MESV".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The bytes every delta save starts with.
+     */
+    private static final byte[] DELTA_MAGIC = "MEDV".getBytes(StandardCharsets.US_ASCII);
+
+    private SaveFormat() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes the magic bytes and the current version.
+     *
+     * @param out the output
+     */
+    public static void writeHeader(final SaveOutput out) {
+        out.writeBytes(MAGIC).writeVarint(CURRENT_VERSION);
+    }
+
+    /**
+     * Writes the magic bytes of a delta save and the current version.
+     *
+     * @param out the output
+     */
+    public static void writeDeltaHeader(final SaveOutput out) {
+        out.writeBytes(DELTA_MAGIC).writeVarint(CURRENT_VERSION);
+    }
+
+    /**
+     * Checks if the data starts with the magic bytes of a binary save, without consuming it.
+     *
+     * @param data the data
+     * @return true if the data is a binary save
+     */
+    public static boolean isBinary(final ByteBuffer data) {
+        return startsWith(data, MAGIC);
+    }
+
+    /**
+     * Checks if the data starts with the magic bytes of a delta save, without consuming it.
+     *
+     * @param data the data
+     * @return true if the data is a delta save
+     */
+    public static boolean isDelta(final ByteBuffer data) {
+        return startsWith(data, DELTA_MAGIC);
+    }
+
+    /**
+     * Reads the magic bytes and the version of a binary save.
+     *
+     * @param in the input, positioned at the start of the save
+     * @return the version of the save
+     * @throws CorruptSaveException if the input is not a binary save
+     *     or it was written by a newer version of the game
+     */
+    public static int readHeader(final SaveInput in) {
+        return readHeader(in, MAGIC);
+    }
+
+    /**
+     * Reads the magic bytes and the version of a delta save.
+     *
+     * @param in the input, positioned at the start of the save
+     * @return the version of the save
+     * @throws CorruptSaveException if the input is not a delta save
+     *     or it was written by a newer version of the game
+     */
+    public static int readDeltaHeader(final SaveInput in) {
+        return readHeader(in, DELTA_MAGIC);
+    }
+
+    private static boolean startsWith(final ByteBuffer data, final byte[] magic) {
+        if (data.remaining() < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (data.get(data.position() + i) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readHeader(final SaveInput in, final byte[] magic) {
+        for (final byte b : magic) {
+            if (in.readByte() != b) {
+                throw new CorruptSaveException("Not a save file");
+            }
+        }
+        final long version = in.readVarint();
+        if (version > CURRENT_VERSION) {
+            throw new CorruptSaveException("Save written by a newer version of the game: " + version);
+        }
+        return (int) version;
+    }
+}
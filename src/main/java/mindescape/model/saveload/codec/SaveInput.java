@@ -0,0 +1,176 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reader of the values written by a {@link SaveOutput}.
+ */
+public final class SaveInput {
+
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int CONTINUATION = 0x80;
+    private static final int MAX_VARINT_SHIFT = 63;
+    private static final int BYTE_BITS = 8;
+    private static final int BYTE_MASK = 0xFF;
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs an input reading the remaining bytes of a buffer.
+     *
+     * @param buffer the buffer
+     */
+    public SaveInput(final ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return the number of bytes read
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Checks if there is something left to read.
+     *
+     * @return true if there are bytes left
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Reads a raw byte.
+     *
+     * @return the byte, as an unsigned value
+     * @throws CorruptSaveException if there are no bytes left
+     */
+    public int readByte() {
+        if (!buffer.hasRemaining()) {
+            throw new CorruptSaveException("Unexpected end of data");
+        }
+        return buffer.get() & BYTE_MASK;
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @return the value
+     * @throws CorruptSaveException if the varint is truncated or too long
+     */
+    public long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7) {
+            final int b = readByte();
+            value |= (long) (b & SEVEN_BITS) << shift;
+            if ((b & CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptSaveException("Malformed varint");
+    }
+
+    /**
+     * Reads a signed, zigzag encoded, varint.
+     *
+     * @return the value
+     */
+    public long readSignedVarint() {
+        final long raw = readVarint();
+        return raw >>> 1 ^ -(raw & 1);
+    }
+
+    /**
+     * Reads a double written as eight little endian bytes.
+     *
+     * @return the value
+     */
+    public double readDouble() {
+        long bits = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits |= (long) readByte() << i * BYTE_BITS;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Reads a length followed by that many bytes.
+     *
+     * @return an input over the bytes read
+     * @throws CorruptSaveException if the length exceeds the bytes left
+     */
+    public SaveInput readLengthDelimited() {
+        final long length = readVarint();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new CorruptSaveException("Invalid length: " + length);
+        }
+        final ByteBuffer content = buffer.slice();
+        content.limit((int) length);
+        buffer.position(buffer.position() + (int) length);
+        return new SaveInput(content);
+    }
+
+    /**
+     * Reads all the remaining bytes as an UTF-8 string.
+     *
+     * @return the string
+     */
+    public String remainingAsString() {
+        final byte[] utf8 = new byte[buffer.remaining()];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads all the remaining bytes.
+     *
+     * @return the bytes
+     */
+    public byte[] remainingAsBytes() {
+        final byte[] values = new byte[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+
+    /**
+     * Reads all the remaining bytes as packed unsigned varints.
+     *
+     * @return the values
+     */
+    public int[] remainingAsPacked() {
+        final int[] values = new int[buffer.remaining()];
+        int count = 0;
+        while (hasRemaining()) {
+            values[count++] = (int) readVarint();
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Returns an input over the same bytes, from the current position, which can be read
+     * without consuming this one.
+     *
+     * @return a copy of this input
+     */
+    SaveInput copy() {
+        return new SaveInput(buffer.duplicate());
+    }
+
+    /**
+     * Skips a value of the given wire type.
+     *
+     * @param type the wire type of the value
+     */
+    public void skip(final WireType type) {
+        switch (type) {
+            case VARINT -> readVarint();
+            case FIXED64 -> readDouble();
+            case LENGTH_DELIMITED -> readLengthDelimited();
+            default -> throw new CorruptSaveException("Unknown wire type: " + type);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package mindescape.model.saveload.codec;
+
+import mindescape.model.world.api.World;
+
+/**
+ * Brings a world loaded from a save written with an older version of the schema
+ * up to date with the current one.
+ * <p>
+ * Fields added by a version are simply missing from older saves and read with their
+ * default values; a migrator is only needed when a default is not enough, e.g. because
+ * the meaning of a field changed.
+ * </p>
+ */
+@FunctionalInterface
+public interface SaveMigrator {
+
+    /**
+     * Migrates a world from the version this migrator is registered for to the next one.
+     *
+     * @param world the world read from the save
+     * @return the migrated world
+     */
+    World migrate(World world);
+}
@@ -0,0 +1,233 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable buffer the fields of a save are written to.
+ * <p>
+ * Integers are written as varints, seven bits per byte, signed ones after a zigzag encoding so
+ * that small negative values stay short; doubles are written as eight little endian bytes, unless
+ * they hold a small whole number, as most coordinates on the tile grid do, in which case they are
+ * written as signed varints.
+ * Every field is preceded by a tag made of its number and its {@link WireType}.
+ * </p>
+ */
+public final class SaveOutput {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int CONTINUATION = 0x80;
+    private static final int BYTE_BITS = 8;
+    private static final int BYTE_MASK = 0xFF;
+    private static final double MAX_WHOLE = 1L << 53;
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Writes a raw byte.
+     *
+     * @param value the byte
+     * @return this output
+     */
+    public SaveOutput writeByte(final int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Writes raw bytes.
+     *
+     * @param values the bytes
+     * @return this output
+     */
+    public SaveOutput writeBytes(final byte[] values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+        return this;
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param value the value, treated as unsigned
+     * @return this output
+     */
+    public SaveOutput writeVarint(final long value) {
+        long remaining = value;
+        while ((remaining & ~SEVEN_BITS) != 0) {
+            writeByte((int) (remaining & SEVEN_BITS) | CONTINUATION);
+            remaining >>>= 7;
+        }
+        return writeByte((int) remaining);
+    }
+
+    /**
+     * Writes a signed varint, zigzag encoded.
+     *
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeSignedVarint(final long value) {
+        return writeVarint(value << 1 ^ value >> Long.SIZE - 1);
+    }
+
+    /**
+     * Writes a double as eight little endian bytes.
+     *
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeDouble(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < Long.BYTES; i++) {
+            writeByte((int) (bits >>> i * BYTE_BITS) & BYTE_MASK);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the tag of a field.
+     *
+     * @param field the number of the field, positive
+     * @param type the wire type of the field
+     * @return this output
+     */
+    public SaveOutput writeTag(final int field, final WireType type) {
+        return writeVarint((long) field << WireType.BITS | type.ordinal());
+    }
+
+    /**
+     * Writes a field holding a signed integer.
+     *
+     * @param field the number of the field
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeInt(final int field, final long value) {
+        return writeTag(field, WireType.VARINT).writeSignedVarint(value);
+    }
+
+    /**
+     * Writes a field holding an unsigned integer, e.g. the id of a room or of an object.
+     *
+     * @param field the number of the field
+     * @param value the value, not negative
+     * @return this output
+     */
+    public SaveOutput writeUnsigned(final int field, final long value) {
+        return writeTag(field, WireType.VARINT).writeVarint(value);
+    }
+
+    /**
+     * Writes a field holding a boolean, omitted if false.
+     *
+     * @param field the number of the field
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeBoolean(final int field, final boolean value) {
+        return value ? writeTag(field, WireType.VARINT).writeVarint(1) : this;
+    }
+
+    /**
+     * Writes a field holding a double, as a signed varint if it is a whole number.
+     *
+     * @param field the number of the field
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeDouble(final int field, final double value) {
+        if (value == Math.rint(value) && Math.abs(value) < MAX_WHOLE
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+            return writeInt(field, (long) value);
+        }
+        return writeTag(field, WireType.FIXED64).writeDouble(value);
+    }
+
+    /**
+     * Writes a field holding a string, omitted if null.
+     *
+     * @param field the number of the field
+     * @param value the value
+     * @return this output
+     */
+    public SaveOutput writeString(final int field, final String value) {
+        if (value == null) {
+            return this;
+        }
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        return writeTag(field, WireType.LENGTH_DELIMITED).writeVarint(utf8.length).writeBytes(utf8);
+    }
+
+    /**
+     * Writes a field holding raw bytes, e.g. the pixels of a picture.
+     *
+     * @param field the number of the field
+     * @param values the bytes
+     * @return this output
+     */
+    public SaveOutput writeBytes(final int field, final byte[] values) {
+        return writeTag(field, WireType.LENGTH_DELIMITED).writeVarint(values.length).writeBytes(values);
+    }
+
+    /**
+     * Writes a field holding a list of unsigned integers, packed one after the other, omitted if empty.
+     *
+     * @param field the number of the field
+     * @param values the values
+     * @return this output
+     */
+    public SaveOutput writePacked(final int field, final int... values) {
+        if (values.length == 0) {
+            return this;
+        }
+        final SaveOutput packed = new SaveOutput();
+        for (final int value : values) {
+            packed.writeVarint(value);
+        }
+        return writeMessage(field, packed);
+    }
+
+    /**
+     * Writes a field holding a nested message.
+     *
+     * @param field the number of the field
+     * @param message the content of the message
+     * @return this output
+     */
+    public SaveOutput writeMessage(final int field, final SaveOutput message) {
+        writeTag(field, WireType.LENGTH_DELIMITED).writeVarint(message.size);
+        ensureCapacity(message.size);
+        System.arraycopy(message.bytes, 0, bytes, size, message.size);
+        size += message.size;
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     *
+     * @return the size of the output
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bytes written, ready to be read.
+     *
+     * @return a buffer wrapping the bytes written
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(bytes, 0, size);
+    }
+
+    private void ensureCapacity(final int more) {
+        if (size + more > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + more));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package mindescape.model.saveload.codec;
+
+/**
+ * How the value of a field is encoded, stored in the low bits of its tag so that
+ * a reader can skip the fields it does not know.
+ */
+public enum WireType {
+    /**
+     * A variable length integer.
+     */
+    VARINT,
+    /**
+     * Eight bytes, little endian, used for doubles.
+     */
+    FIXED64,
+    /**
+     * A length followed by that many bytes: strings, packed integers and nested messages.
+     */
+    LENGTH_DELIMITED;
+
+    /**
+     * The number of bits of a tag holding the wire type.
+     */
+    public static final int BITS = 3;
+
+    /**
+     * Retrieves the wire type with the given code.
+     *
+     * @param code the code, i.e. the ordinal
+     * @return the wire type
+     * @throws CorruptSaveException if the code is unknown
+     */
+    public static WireType fromCode(final int code) {
+        if (code < 0 || code >= values().length) {
+            throw new CorruptSaveException("Unknown wire type: " + code);
+        }
+        return values()[code];
+    }
+}
@@ -0,0 +1,444 @@
+package mindescape.model.saveload.codec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.enigma.api.EnigmaFactory;
+import mindescape.model.enigma.caesarcipher.impl.CaesarCipherModelImpl;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.enigma.impl.EnigmaFactoryImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Door;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.impl.DoorImpl;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithPickable;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.items.noninteractable.impl.NonInteractableImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Encodes a {@link World} in the binary save format and decodes it back.
+ * <p>
+ * After the header, a save is a sequence of records, each one a tagged message: first the rooms,
+ * without their objects, then the objects, then the objects of every room and finally the player.
+ * Objects are written in dependency order, so every object only refers to rooms and objects
+ * coming before it; they are referred to by their position in the sequence of records of their type.
+ * Enigmas are stored by name, and recreated through the {@link EnigmaFactory}, along with their state.
+ * </p>
+ */
+public final class WorldCodec {
+
+    private static final int ROOM = 1;
+    private static final int OBJECT = 2;
+    private static final int CONTENTS = 3;
+    private static final int PLAYER = 4;
+
+    private static final int ROOM_NAME = 1;
+    private static final int ROOM_SOURCE = 2;
+    private static final int ROOM_WIDTH = 3;
+    private static final int ROOM_HEIGHT = 4;
+
+    private static final int CONTENTS_ROOM = 1;
+    private static final int CONTENTS_OBJECTS = 2;
+
+    private static final int KIND = 1;
+    private static final int NAME = 2;
+    private static final int X = 3;
+    private static final int Y = 4;
+    private static final int WIDTH = 5;
+    private static final int HEIGHT = 6;
+    private static final int REWARD = 8;
+    private static final int UNLOCKED = 9;
+    private static final int KEY_ITEM_ID = 10;
+    private static final int ENIGMA = 11;
+    private static final int DESTINATION_ROOM = 12;
+    private static final int DESTINATION_X = 13;
+    private static final int DESTINATION_Y = 14;
+    private static final int BASE_DOOR = 15;
+    private static final int DESCRIPTION = 16;
+    private static final int ITEM_ID = 17;
+    private static final int SOLVED = 18;
+    private static final int PIECES = 19;
+    private static final int PLAYER_ROOM = 20;
+    private static final int INVENTORY = 21;
+    private static final int PLAY_TIME = 22;
+
+    /**
+     * The migrators of the schema, by the version they migrate from.
+     */
+    private static final Map<Integer, SaveMigrator> MIGRATORS = Map.of();
+
+    private WorldCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes a world, header included.
+     *
+     * @param world the world
+     * @param out the output
+     * @throws IllegalArgumentException if the world contains objects which cannot be saved
+     */
+    public static void encode(final World world, final SaveOutput out) {
+        SaveFormat.writeHeader(out);
+        new Encoder(out).write(world);
+    }
+
+    /**
+     * Reads a world, header included, migrating it to the current version of the schema.
+     *
+     * @param in the input
+     * @return the world
+     * @throws CorruptSaveException if the input is not a valid save
+     */
+    public static World decode(final SaveInput in) {
+        final int version = SaveFormat.readHeader(in);
+        return migrate(new Decoder().read(in), version);
+    }
+
+    /**
+     * Applies to a world the migrators from the given version of the schema to the current one.
+     *
+     * @param world the world
+     * @param version the version of the schema the world was read with
+     * @return the migrated world
+     */
+    public static World migrate(final World world, final int version) {
+        World migrated = world;
+        for (int v = version; v < SaveFormat.CURRENT_VERSION; v++) {
+            final SaveMigrator migrator = MIGRATORS.get(v);
+            if (migrator != null) {
+                migrated = migrator.migrate(migrated);
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * Writes the records of a world, keeping track of the ids given to rooms and objects.
+     */
+    private static final class Encoder {
+
+        private final SaveOutput out;
+        private final Map<Room, Integer> roomIds = new IdentityHashMap<>();
+        private final Map<Object, Integer> objectIds = new IdentityHashMap<>();
+
+        Encoder(final SaveOutput out) {
+            this.out = out;
+        }
+
+        void write(final World world) {
+            for (final Room room : world.getRooms()) {
+                roomIds.put(room, roomIds.size());
+                out.writeMessage(ROOM, new SaveOutput()
+                    .writeString(ROOM_NAME, room.getName())
+                    .writeString(ROOM_SOURCE, room.getSource())
+                    .writeDouble(ROOM_WIDTH, room.getDimensions().width())
+                    .writeDouble(ROOM_HEIGHT, room.getDimensions().height()));
+            }
+            final Player player = world.getPlayer();
+            for (final Room room : world.getRooms()) {
+                final int[] contents = room.getGameObjects().stream()
+                    .filter(obj -> !(obj instanceof Player))
+                    .mapToInt(this::writeObject)
+                    .toArray();
+                out.writeMessage(CONTENTS, new SaveOutput()
+                    .writeUnsigned(CONTENTS_ROOM, roomId(room))
+                    .writePacked(CONTENTS_OBJECTS, contents));
+            }
+            final int[] inventory = player.getInventory().getItems().stream()
+                .mapToInt(this::writeObject)
+                .toArray();
+            final SaveOutput message = new SaveOutput();
+            writeCommon(message, player);
+            out.writeMessage(PLAYER, message
+                .writeUnsigned(PLAYER_ROOM, roomId(player.getCurrentRoom()))
+                .writePacked(INVENTORY, inventory)
+                .writeInt(PLAY_TIME, world.getPlayTime().toMillis()));
+        }
+
+        /**
+         * Writes the record of an object, after the ones of the objects it refers to, unless already written.
+         *
+         * @param object the object
+         * @return the id of the object
+         */
+        private int writeObject(final Object object) {
+            final Integer written = objectIds.get(object);
+            if (written != null) {
+                return written;
+            }
+            final ObjectKind kind = ObjectKind.of(object);
+            final SaveOutput message = new SaveOutput().writeUnsigned(KIND, kind.getCode());
+            switch (kind) {
+                case NON_INTERACTABLE -> writeCommon(message, (GameObject) object);
+                case PICKABLE -> {
+                    final PickableImpl pickable = (PickableImpl) object;
+                    writeCommon(message, pickable);
+                    message.writeString(DESCRIPTION, pickable.getDescription()).writeInt(ITEM_ID, pickable.getId());
+                }
+                case UNPICKABLE -> {
+                    final UnpickableImpl unpickable = (UnpickableImpl) object;
+                    writeCommon(message, unpickable);
+                    writeReference(message, REWARD, unpickable.getReward());
+                    message.writeBoolean(UNLOCKED, unpickable.isUnlocked());
+                }
+                case LOCKED_UNPICKABLE -> {
+                    final LockedUnpickable locked = (LockedUnpickable) object;
+                    writeCommon(message, locked);
+                    writeReference(message, REWARD, locked.getReward());
+                    message.writeInt(KEY_ITEM_ID, locked.getKeyItemId()).writeBoolean(UNLOCKED, locked.isUnlocked());
+                }
+                case UNPICKABLE_WITH_ENIGMA -> {
+                    final UnpickableWithEnigmaImpl unpickable = (UnpickableWithEnigmaImpl) object;
+                    writeCommon(message, unpickable);
+                    writeReference(message, ENIGMA, unpickable.getEnigma());
+                    writeReference(message, REWARD, unpickable.getReward());
+                }
+                case DOOR -> {
+                    final DoorImpl door = (DoorImpl) object;
+                    writeCommon(message, door);
+                    message.writeUnsigned(DESTINATION_ROOM, roomId(door.getDestinationRoom()));
+                    if (door.getDestinationPosition() != null) {
+                        message.writeDouble(DESTINATION_X, door.getDestinationPosition().x())
+                            .writeDouble(DESTINATION_Y, door.getDestinationPosition().y());
+                    }
+                }
+                case DOOR_LOCKED_WITH_PICKABLE -> {
+                    final DoorLockedWithPickable door = (DoorLockedWithPickable) object;
+                    writeReference(message, BASE_DOOR, door.getBaseDoor());
+                    message.writeInt(KEY_ITEM_ID, door.getKeyItemId()).writeBoolean(UNLOCKED, door.isUnlocked());
+                }
+                case DOOR_LOCKED_WITH_ENIGMA -> {
+                    final DoorLockedWithEnigma door = (DoorLockedWithEnigma) object;
+                    writeReference(message, BASE_DOOR, door.getBaseDoor());
+                    writeReference(message, ENIGMA, door.getEnigma());
+                }
+                case ENIGMA_PASSWORD, ENIGMA_CAESAR_CIPHER, ENIGMA_CALENDAR -> {
+                    final Enigma enigma = (Enigma) object;
+                    message.writeString(NAME, enigma.getName()).writeBoolean(SOLVED, enigma.isSolved());
+                }
+                case ENIGMA_PUZZLE -> {
+                    final EnigmaPuzzleModelImpl puzzle = (EnigmaPuzzleModelImpl) object;
+                    final int[] pieces = new int[puzzle.getRows() * puzzle.getCols()];
+                    for (int i = 0; i < pieces.length; i++) {
+                        pieces[i] = puzzle.getPiece(i / puzzle.getCols(), i % puzzle.getCols());
+                    }
+                    message.writeString(NAME, puzzle.getName()).writePacked(PIECES, pieces);
+                }
+                default -> throw new IllegalArgumentException("Cannot save objects of kind " + kind);
+            }
+            final int id = objectIds.size();
+            objectIds.put(object, id);
+            out.writeMessage(OBJECT, message);
+            return id;
+        }
+
+        private void writeReference(final SaveOutput message, final int field, final Object object) {
+            if (object != null) {
+                message.writeUnsigned(field, writeObject(object));
+            }
+        }
+
+        private void writeCommon(final SaveOutput message, final GameObject object) {
+            message.writeString(NAME, object.getName());
+            final Point2D position = object.getPosition();
+            if (position != null) {
+                message.writeDouble(X, position.x()).writeDouble(Y, position.y());
+            }
+            final Dimensions dimensions = object.getDimensions();
+            if (dimensions != null) {
+                message.writeDouble(WIDTH, dimensions.width()).writeDouble(HEIGHT, dimensions.height());
+            }
+        }
+
+        private int roomId(final Room room) {
+            final Integer id = roomIds.get(room);
+            if (id == null) {
+                throw new IllegalArgumentException("Reference to a room which is not part of the world: " + room.getName());
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Reads the records of a world, resolving the references to rooms and objects read before.
+     */
+    private static final class Decoder {
+
+        private static final int TYPE_MASK = (1 << WireType.BITS) - 1;
+        private final EnigmaFactory enigmas = new EnigmaFactoryImpl();
+        private final List<Room> rooms = new ArrayList<>();
+        private final List<Object> objects = new ArrayList<>();
+        private Player player;
+        private long playTime;
+
+        World read(final SaveInput in) {
+            while (in.hasRemaining()) {
+                final long tag = in.readVarint();
+                final WireType type = WireType.fromCode((int) tag & TYPE_MASK);
+                if (type != WireType.LENGTH_DELIMITED) {
+                    in.skip(type);
+                    continue;
+                }
+                final Fields fields = Fields.read(in.readLengthDelimited());
+                switch ((int) (tag >>> WireType.BITS)) {
+                    case ROOM -> rooms.add(new RoomImpl(
+                        fields.getString(ROOM_NAME, ""),
+                        fields.getString(ROOM_SOURCE, ""),
+                        new Dimensions(fields.getDouble(ROOM_WIDTH, 0), fields.getDouble(ROOM_HEIGHT, 0))));
+                    case OBJECT -> objects.add(readObject(fields));
+                    case CONTENTS -> {
+                        final Room room = room(fields.getUnsigned(CONTENTS_ROOM));
+                        for (final int id : fields.getPacked(CONTENTS_OBJECTS)) {
+                            room.addGameObject(object(id, GameObject.class));
+                        }
+                    }
+                    case PLAYER -> readPlayer(fields);
+                    default -> {
+                        // a record added by a newer schema, ignored
+                    }
+                }
+            }
+            if (player == null) {
+                throw new CorruptSaveException("The save has no player");
+            }
+            final World world = new WorldImpl(rooms, player);
+            world.addPlayTime(Duration.ofMillis(playTime));
+            return world;
+        }
+
+        private Object readObject(final Fields fields) {
+            final ObjectKind kind = ObjectKind.fromCode(fields.getUnsigned(KIND));
+            final String name = fields.getString(NAME, "");
+            return switch (kind) {
+                case NON_INTERACTABLE -> new NonInteractableImpl(position(fields, X, Y), name, dimensions(fields));
+                case PICKABLE -> new PickableImpl(position(fields, X, Y), name, dimensions(fields),
+                    fields.getString(DESCRIPTION, ""), fields.getInt(ITEM_ID, 0));
+                case UNPICKABLE -> {
+                    final UnpickableImpl unpickable = new UnpickableImpl(name, position(fields, X, Y), dimensions(fields),
+                        reference(fields, REWARD, Pickable.class));
+                    unpickable.setUnlocked(fields.getBoolean(UNLOCKED));
+                    yield unpickable;
+                }
+                case LOCKED_UNPICKABLE -> {
+                    final LockedUnpickable locked = new LockedUnpickable(name, position(fields, X, Y), dimensions(fields),
+                        fields.getInt(KEY_ITEM_ID, 0), reference(fields, REWARD, Pickable.class));
+                    locked.setUnlocked(fields.getBoolean(UNLOCKED));
+                    yield locked;
+                }
+                case UNPICKABLE_WITH_ENIGMA -> new UnpickableWithEnigmaImpl(name, position(fields, X, Y), dimensions(fields),
+                    reference(fields, ENIGMA, Enigma.class), reference(fields, REWARD, Pickable.class));
+                case DOOR -> new DoorImpl(position(fields, X, Y), name, dimensions(fields),
+                    room(fields.getUnsigned(DESTINATION_ROOM)), position(fields, DESTINATION_X, DESTINATION_Y));
+                case DOOR_LOCKED_WITH_PICKABLE -> {
+                    final DoorLockedWithPickable door = new DoorLockedWithPickable(
+                        reference(fields, BASE_DOOR, Door.class), fields.getInt(KEY_ITEM_ID, 0));
+                    door.setUnlocked(fields.getBoolean(UNLOCKED));
+                    yield door;
+                }
+                case DOOR_LOCKED_WITH_ENIGMA -> new DoorLockedWithEnigma(
+                    reference(fields, BASE_DOOR, Door.class), reference(fields, ENIGMA, Enigma.class));
+                case ENIGMA_PASSWORD -> {
+                    final EnigmaPasswordModelImpl enigma = enigma(name, EnigmaPasswordModelImpl.class);
+                    enigma.setSolved(fields.getBoolean(SOLVED));
+                    yield enigma;
+                }
+                case ENIGMA_CAESAR_CIPHER -> {
+                    final CaesarCipherModelImpl enigma = enigma(name, CaesarCipherModelImpl.class);
+                    enigma.setSolved(fields.getBoolean(SOLVED));
+                    yield enigma;
+                }
+                case ENIGMA_PUZZLE -> {
+                    final EnigmaPuzzleModelImpl puzzle = enigma(name, EnigmaPuzzleModelImpl.class);
+                    final int[] pieces = fields.getPacked(PIECES);
+                    if (pieces.length > 0) {
+                        puzzle.setPieces(toRows(pieces, puzzle.getRows(), puzzle.getCols()));
+                    }
+                    yield puzzle;
+                }
+                case ENIGMA_CALENDAR -> enigmas.getEnigma(name);
+                default -> throw new CorruptSaveException("Unsupported object kind: " + kind);
+            };
+        }
+
+        private void readPlayer(final Fields fields) {
+            final Room room = room(fields.getUnsigned(PLAYER_ROOM));
+            player = new PlayerImpl(position(fields, X, Y), fields.getString(NAME, ""), dimensions(fields), room);
+            for (final int id : fields.getPacked(INVENTORY)) {
+                player.getInventory().addItems(object(id, Pickable.class));
+            }
+            room.addGameObject(player);
+            playTime = Math.max(0, fields.getLong(PLAY_TIME, 0));
+        }
+
+        private <T> T enigma(final String name, final Class<T> type) {
+            final Enigma enigma;
+            try {
+                enigma = enigmas.getEnigma(name);
+            } catch (final IllegalArgumentException e) {
+                throw new CorruptSaveException("Unknown enigma: " + name);
+            }
+            if (!type.isInstance(enigma)) {
+                throw new CorruptSaveException("Enigma " + name + " is not a " + type.getSimpleName());
+            }
+            return type.cast(enigma);
+        }
+
+        private <T> T reference(final Fields fields, final int field, final Class<T> type) {
+            return fields.has(field) ? object(fields.getUnsigned(field), type) : null;
+        }
+
+        private <T> T object(final int id, final Class<T> type) {
+            if (id < 0 || id >= objects.size()) {
+                throw new CorruptSaveException("Reference to an unknown object: " + id);
+            }
+            final Object object = objects.get(id);
+            if (!type.isInstance(object)) {
+                throw new CorruptSaveException("Object " + id + " is not a " + type.getSimpleName());
+            }
+            return type.cast(object);
+        }
+
+        private Room room(final int id) {
+            if (id < 0 || id >= rooms.size()) {
+                throw new CorruptSaveException("Reference to an unknown room: " + id);
+            }
+            return rooms.get(id);
+        }
+
+        private static Point2D position(final Fields fields, final int x, final int y) {
+            return fields.has(x) ? new Point2D(fields.getDouble(x, 0), fields.getDouble(y, 0)) : null;
+        }
+
+        private static Dimensions dimensions(final Fields fields) {
+            return fields.has(WIDTH) ? new Dimensions(fields.getDouble(WIDTH, 0), fields.getDouble(HEIGHT, 0)) : null;
+        }
+
+        private static Integer[][] toRows(final int[] pieces, final int rows, final int cols) {
+            if (pieces.length != rows * cols) {
+                throw new CorruptSaveException("Expected " + rows * cols + " puzzle pieces, found " + pieces.length);
+            }
+            final Integer[][] result = new Integer[rows][cols];
+            for (int i = 0; i < pieces.length; i++) {
+                result[i / cols][i % cols] = pieces[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package mindescape.model.saveload.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.model.saveload.api.CheckpointScheduler;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMode;
+import mindescape.model.world.api.World;
+
+/**
+ * Implementation of the CheckpointScheduler interface.
+ * <p>
+ * Checkpoints are delta saves named {@code <username>.checkpoint-<slot>}, written in a ring
+ * of slots which starts from the oldest one, so they are listed along with the manual saves
+ * and the least recent checkpoint is the one overwritten. A checkpoint is skipped while the
+ * previous one is still being written.
+ * </p>
+ */
+public final class CheckpointSchedulerImpl implements CheckpointScheduler {
+
+    /**
+     * The separator between the name of the player and the slot in the name of a checkpoint.
+     */
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint-";
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+    private static final int DEFAULT_SLOTS = 3;
+    private static final Set<GameEventType> KEY_EVENTS = Set.of(GameEventType.ROOM_CHANGED, GameEventType.SOLVED);
+    private final Logger logger = Logger.getLogger(CheckpointSchedulerImpl.class.getName());
+    private final World world;
+    private final SaveService saveService;
+    private final Supplier<SaveSnapshot> snapshot;
+    private final long interval;
+    private final int slots;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private volatile boolean closed;
+    private final GameEventListener listener = this::onEvent;
+    private int nextSlot;
+    private long lastCheckpoint;
+    private boolean started;
+
+    /**
+     * Constructs a scheduler taking a checkpoint every minute, keeping three of them.
+     *
+     * @param world the world
+     * @param saveService the service writing the checkpoints
+     */
+    public CheckpointSchedulerImpl(final World world, final SaveService saveService) {
+        this(world, saveService, () -> SaveManager.snapshot(world, SaveMode.DELTA));
+    }
+
+    /**
+     * Constructs a scheduler taking a checkpoint every minute, keeping three of them,
+     * each one captured by the given supplier, e.g. to add a thumbnail to its preview.
+     *
+     * @param world the world
+     * @param saveService the service writing the checkpoints
+     * @param snapshot the supplier capturing the state of the world, called by the thread ticking the scheduler
+     */
+    public CheckpointSchedulerImpl(final World world, final SaveService saveService,
+            final Supplier<SaveSnapshot> snapshot) {
+        this(world, saveService, snapshot, DEFAULT_INTERVAL, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Constructs a scheduler.
+     *
+     * @param world the world
+     * @param saveService the service writing the checkpoints
+     * @param interval the time between two checkpoints when no key event happens
+     * @param slots the number of checkpoints kept for the player
+     * @throws IllegalArgumentException if the interval or the number of slots are not positive
+     */
+    public CheckpointSchedulerImpl(final World world, final SaveService saveService,
+            final Duration interval, final int slots) {
+        this(world, saveService, () -> SaveManager.snapshot(world, SaveMode.DELTA), interval, slots);
+    }
+
+    /**
+     * Constructs a scheduler taking the checkpoints captured by the given supplier.
+     *
+     * @param world the world
+     * @param saveService the service writing the checkpoints
+     * @param snapshot the supplier capturing the state of the world, called by the thread ticking the scheduler
+     * @param interval the time between two checkpoints when no key event happens
+     * @param slots the number of checkpoints kept for the player
+     * @throws IllegalArgumentException if the interval or the number of slots are not positive
+     */
+    public CheckpointSchedulerImpl(final World world, final SaveService saveService,
+            final Supplier<SaveSnapshot> snapshot, final Duration interval, final int slots) {
+        if (interval.isNegative() || interval.isZero() || slots <= 0) {
+            throw new IllegalArgumentException("Interval and slots must be positive");
+        }
+        this.world = Objects.requireNonNull(world);
+        this.saveService = Objects.requireNonNull(saveService);
+        this.snapshot = Objects.requireNonNull(snapshot);
+        this.interval = interval.toNanos();
+        this.slots = slots;
+        this.nextSlot = oldestSlot();
+        world.addGameEventListener(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void tick(final long now) {
+        if (closed) {
+            return;
+        }
+        if (!started) {
+            started = true;
+            lastCheckpoint = now;
+        }
+        final boolean due = requested.get() || now - lastCheckpoint >= interval;
+        if (!due || !writing.compareAndSet(false, true)) {
+            return;
+        }
+        requested.set(false);
+        lastCheckpoint = now;
+        final String name = checkpointName(nextSlot);
+        nextSlot = (nextSlot + 1) % slots;
+        try {
+            saveService.save(snapshot.get(), name)
+                .whenComplete((file, error) -> {
+                    writing.set(false);
+                    if (error != null) {
+                        logger.warning(() -> "Checkpoint " + name + " failed: " + error.getMessage());
+                    }
+                });
+        } catch (final IllegalStateException e) {
+            writing.set(false);
+            logger.fine(() -> "Checkpoint " + name + " skipped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        closed = true;
+        world.removeGameEventListener(listener);
+    }
+
+    private void onEvent(final GameEvent event) {
+        if (KEY_EVENTS.contains(event.type())) {
+            requested.set(true);
+        }
+    }
+
+    private String checkpointName(final int slot) {
+        return world.getPlayer().getName() + CHECKPOINT_SUFFIX + slot;
+    }
+
+    /**
+     * Finds the first slot without a checkpoint or, if all of them are taken, the least recent one.
+     */
+    private int oldestSlot() {
+        int oldest = 0;
+        FileTime oldestTime = null;
+        for (int slot = 0; slot < slots; slot++) {
+            final Path file = SaveManager.getSaveFile(checkpointName(slot));
+            if (!Files.exists(file)) {
+                return slot;
+            }
+            try {
+                final FileTime time = Files.getLastModifiedTime(file);
+                if (oldestTime == null || time.compareTo(oldestTime) < 0) {
+                    oldest = slot;
+                    oldestTime = time;
+                }
+            } catch (final IOException e) {
+                return slot;
+            }
+        }
+        return oldest;
+    }
+}
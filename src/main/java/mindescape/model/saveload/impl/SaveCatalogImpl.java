@@ -0,0 +1,261 @@
+package mindescape.model.saveload.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import mindescape.model.saveload.api.SaveCatalog;
+import mindescape.model.saveload.api.SaveEntry;
+import mindescape.model.saveload.codec.CatalogCodec;
+import mindescape.model.saveload.codec.CorruptSaveException;
+import mindescape.model.saveload.codec.SaveInput;
+import mindescape.model.saveload.codec.SaveOutput;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.utils.GameExecutors;
+
+/**
+ * Implementation of the SaveCatalog interface.
+ * <p>
+ * The index is kept in memory and persisted in a {@value #INDEX_FILE} file of the save folder.
+ * When the catalog is opened, the names in the folder are compared with the index, and only
+ * the saves missing from it are read from the disk; afterwards, a {@link WatchService} follows
+ * the changes made to the folder by other processes. The room and the play time of the saves
+ * changed outside of the game are read from their preview, the only part of the file read.
+ * If the index is lost or corrupted, it is rebuilt from the folder.
+ * </p>
+ * <p>
+ * Every change to the entries bumps a version, and the sorted list is cached along with the
+ * version it was sorted at, so a list sorted while the entries changed is never kept.
+ * </p>
+ */
+public final class SaveCatalogImpl implements SaveCatalog {
+
+    private static final String INDEX_FILE = ".catalog";
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final Comparator<SaveEntry> MOST_RECENT_FIRST =
+        Comparator.comparingLong(SaveEntry::timestamp).reversed();
+    private final Logger logger = Logger.getLogger(SaveCatalogImpl.class.getName());
+    private final Path directory;
+    private final Map<String, SaveEntry> entries = new ConcurrentHashMap<>();
+    private final WatchService watcher;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Sorted sorted = new Sorted(-1, List.of());
+
+    /**
+     * Opens the catalog of a save folder, creating the folder if it does not exist.
+     *
+     * @param directory the save folder
+     * @throws IllegalStateException if the folder cannot be created or read
+     */
+    public SaveCatalogImpl(final Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not create saves directory.", e);
+        }
+        loadIndex();
+        if (reconcile()) {
+            persist();
+        }
+        this.watcher = watch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SaveEntry> getEntries() {
+        final long current = this.version.get();
+        final Sorted cached = this.sorted;
+        if (cached.version() == current) {
+            return cached.entries();
+        }
+        final List<SaveEntry> result = this.entries.values().stream().sorted(MOST_RECENT_FIRST).toList();
+        // a list sorted while an entry changed is returned, but not kept
+        if (this.version.get() == current) {
+            this.sorted = new Sorted(current, result);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final SaveEntry entry) {
+        this.entries.put(entry.name(), entry);
+        this.version.incrementAndGet();
+        persist();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (this.watcher != null) {
+            try {
+                this.watcher.close();
+            } catch (final IOException e) {
+                logger.fine(e.getMessage());
+            }
+        }
+    }
+
+    private void loadIndex() {
+        final Path index = this.directory.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try {
+            CatalogCodec.decode(new SaveInput(ByteBuffer.wrap(Files.readAllBytes(index))), this.directory)
+                .forEach(entry -> this.entries.put(entry.name(), entry));
+        } catch (final IOException | CorruptSaveException e) {
+            logger.warning(() -> "Rebuilding the save catalog: " + e.getMessage());
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Brings the index in line with the names in the folder, reading only the saves it misses.
+     *
+     * @return true if the index changed
+     */
+    private boolean reconcile() {
+        final Set<String> names = new HashSet<>();
+        boolean changed = false;
+        try (DirectoryStream<Path> saves = Files.newDirectoryStream(this.directory, "*" + SAVE_EXTENSION)) {
+            for (final Path save : saves) {
+                final String name = nameOf(save);
+                names.add(name);
+                if (!this.entries.containsKey(name)) {
+                    changed |= refresh(name);
+                }
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not read saves directory.", e);
+        }
+        changed |= this.entries.keySet().retainAll(names);
+        this.version.incrementAndGet();
+        return changed;
+    }
+
+    /**
+     * Updates the entry of a save from the attributes of its file, unless they match it.
+     *
+     * @return true if the entry changed
+     */
+    private boolean refresh(final String name) {
+        final Path file = this.directory.resolve(name + SAVE_EXTENSION);
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final NoSuchFileException e) {
+            if (this.entries.remove(name) == null) {
+                return false;
+            }
+            this.version.incrementAndGet();
+            return true;
+        } catch (final IOException e) {
+            logger.fine(e.getMessage());
+            return false;
+        }
+        final long timestamp = attributes.lastModifiedTime().toMillis();
+        final SaveEntry previous = this.entries.get(name);
+        final SaveEntry updated = this.entries.compute(name, (key, current) -> current != null
+            && current.timestamp() == timestamp && current.size() == attributes.size()
+            ? current
+            : SaveManager.readPreview(file)
+                .map(preview -> new SaveEntry(name, file, timestamp, preview.room(), preview.playTime(), attributes.size()))
+                .orElseGet(() -> new SaveEntry(name, file, timestamp, "", Duration.ZERO, attributes.size())));
+        if (updated == previous) {
+            return false;
+        }
+        this.version.incrementAndGet();
+        return true;
+    }
+
+    private synchronized void persist() {
+        final SaveOutput out = new SaveOutput();
+        CatalogCodec.encode(this.entries.values(), out);
+        final Path index = this.directory.resolve(INDEX_FILE);
+        final Path temp = this.directory.resolve(INDEX_FILE + ".tmp");
+        try {
+            final ByteBuffer buffer = out.toByteBuffer();
+            Files.write(temp, Arrays.copyOfRange(buffer.array(), buffer.position(), buffer.limit()));
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.warning(() -> "Could not write the save catalog: " + e.getMessage());
+        }
+    }
+
+    private WatchService watch() {
+        try {
+            final WatchService service = this.directory.getFileSystem().newWatchService();
+            this.directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            GameExecutors.ioThreads("save-catalog-watcher").newThread(() -> follow(service)).start();
+            return service;
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.warning(() -> "Changes to the saves made outside of the game will not be listed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void follow(final WatchService service) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                boolean changed = false;
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changed |= reconcile();
+                    } else if (event.context() instanceof Path path && path.toString().endsWith(SAVE_EXTENSION)) {
+                        changed |= refresh(nameOf(path));
+                    }
+                }
+                if (changed) {
+                    persist();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            logger.fine("The save catalog is closed");
+        }
+    }
+
+    private static String nameOf(final Path save) {
+        final String fileName = save.getFileName().toString();
+        return fileName.substring(0, fileName.length() - SAVE_EXTENSION.length());
+    }
+
+    /**
+     * The entries sorted when the catalog was at the given version.
+     */
+    private record Sorted(long version, List<SaveEntry> entries) {
+    }
+}
@@ -0,0 +1,76 @@
+package mindescape.model.saveload.impl;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.utils.GameExecutors;
+
+/**
+ * Implementation of the SaveService interface.
+ * <p>
+ * Saves are encoded and written by a single daemon thread, through {@link SaveManager#write(SaveSnapshot, String)},
+ * so they never overlap and the thread submitting them, e.g. the event dispatch thread, does not wait for the disk.
+ * </p>
+ */
+public final class SaveServiceImpl implements SaveService {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+    private final Logger logger = Logger.getLogger(SaveServiceImpl.class.getName());
+    private final BiFunction<SaveSnapshot, String, Path> writer;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(GameExecutors.ioThreads("save-writer"));
+
+    /**
+     * Constructs a save service writing to the save folder of the game.
+     */
+    public SaveServiceImpl() {
+        this(SaveManager::write);
+    }
+
+    /**
+     * Constructs a save service writing the snapshots with the given function.
+     *
+     * @param writer the function encoding and writing a snapshot to the save with the given name,
+     *     returning the save file
+     */
+    public SaveServiceImpl(final BiFunction<SaveSnapshot, String, Path> writer) {
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Path> save(final SaveSnapshot snapshot, final String name) {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        try {
+            return CompletableFuture.supplyAsync(() -> writer.apply(snapshot, name), executor);
+        } catch (final RejectedExecutionException e) {
+            throw new IllegalStateException("The save service has been closed", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for the pending saves");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,42 +1,49 @@
 package mindescape.model.saveload.impl;
 
 import java.io.File;
-import java.util.Arrays;
-import com.google.common.collect.Ordering;
 import java.util.List;
+import mindescape.model.saveload.api.SaveCatalog;
+import mindescape.model.saveload.api.SaveEntry;
 import mindescape.model.saveload.api.Saves;
+import mindescape.model.saveload.util.SaveManager;
 
 /**
  * Implementation of the Saves interface.
+ * <p>
+ * The saves are listed from the {@link SaveCatalog} of the save folder, without reading the folder.
+ * </p>
  */
 public final class SavesImpl implements Saves {
 
-    private final File savesDirectory = new File("saves");
+    private final SaveCatalog catalog;
 
     /**
      * Constructor for the SavesImpl class.
-     * This constructor checks if the saves directory exists.
-     * If the directory does not exist, it creates the necessary directories.
+     * This constructor opens the catalog of the saves directory,
+     * creating the directory if it does not exist.
      */
     public SavesImpl() {
-        if (!savesDirectory.exists() && !savesDirectory.mkdirs()) {
-            throw new IllegalStateException("Could not create saves directory.");
-        }
+        this.catalog = SaveManager.getCatalog();
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The checkpoints taken by {@link CheckpointSchedulerImpl} are listed along with the manual saves.
+     * </p>
      */
     @Override
     public List<File> getSortedSaveFiles() {
-        final var files = savesDirectory.listFiles((dir, name) -> name.endsWith(".sav"));
+        return this.catalog.getEntries().stream()
+            .map(entry -> entry.file().toFile())
+            .toList();
+    }
 
-        if (files == null || files.length == 0) {
-            return List.of();
-        }
-        return Ordering.natural()
-            .onResultOf(File::lastModified)
-            .reverse()
-            .sortedCopy(Arrays.asList(files));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SaveEntry> getSortedSaves() {
+        return this.catalog.getEntries();
     }
 }
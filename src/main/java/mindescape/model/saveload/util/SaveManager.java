@@ -1,33 +1,67 @@
 package mindescape.model.saveload.util;
 
+import mindescape.model.saveload.api.SaveCatalog;
+import mindescape.model.saveload.api.SaveEntry;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.api.Thumbnail;
+import mindescape.model.saveload.codec.CorruptSaveException;
+import mindescape.model.saveload.codec.DeltaCodec;
+import mindescape.model.saveload.codec.PreviewCodec;
+import mindescape.model.saveload.codec.SaveFormat;
+import mindescape.model.saveload.codec.SaveInput;
+import mindescape.model.saveload.codec.SaveOutput;
+import mindescape.model.saveload.codec.WorldCodec;
+import mindescape.model.saveload.impl.SaveCatalogImpl;
 import mindescape.model.world.api.World;
 import mindescape.model.world.impl.WorldImpl;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.utils.jfr.LoadEvent;
+import mindescape.utils.jfr.SaveEvent;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
 
 /**
  * The SaveManager class provides methods to save and load the game state.
  * 
- * <p>This class handles the serialization and deserialization of the {@code World} object,
+ * <p>This class handles the encoding and decoding of the {@code World} object,
  * allowing the game state to be saved to and loaded from files. The save files are stored
- * in a directory specified by the {@code SAVE_FOLDER} constant.</p>
+ * in the {@code saves} directory, or in the one named by the system property
+ * {@value #SAVES_PROPERTY}, read when the class is first used.</p>
  * 
- * <p>Note: The {@code World} class and its dependencies must be serializable for the save
- * and load operations to work correctly.</p>
+ * <p>Saves are written in the binary format of {@link WorldCodec}; files written with Java
+ * serialization by older versions of the game are still loaded, as version
+ * {@link SaveFormat#LEGACY_VERSION} of the schema. A save can also hold only what changed with
+ * respect to the maps of the game, see {@link SaveMode}.</p>
  * 
  * @see World
+ * @see WorldCodec
  */
 public final class SaveManager {
 
-    private static final String SAVE_FOLDER = "saves";
+    /**
+     * The system property naming the directory the saves are stored in.
+     */
+    public static final String SAVES_PROPERTY = "mindescape.saves";
+    private static final String SAVE_FOLDER = System.getProperty(SAVES_PROPERTY, "saves");
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final Logger LOGGER = Logger.getLogger(SaveManager.class.getName());
 
     private SaveManager() {
         throw new AssertionError("Utility class should not be instantiated");
@@ -36,7 +70,7 @@ public final class SaveManager {
     /**
      * Saves the current game status to a file.
      *
-     * <p>This method serializes the given {@code World} object and saves it to a file
+     * <p>This method encodes the given {@code World} object and saves it to a file
      * named after the player's username in the specified save folder. If the save
      * directory does not exist, it will be created.</p>
      *
@@ -44,23 +78,171 @@ public final class SaveManager {
      * @throws NullPointerException if the {@code World} object is null
      */
     public static void saveGameStatus(final World world) {
+        saveGameStatus(world, SaveMode.FULL);
+    }
+
+    /**
+     * Saves the current game status to a file, holding the whole world or only what changed
+     * with respect to the maps of the game.
+     *
+     * @param world the {@code World} object representing the current game state
+     * @param mode how much of the world to save
+     * @throws NullPointerException if the {@code World} object or the mode are null
+     */
+    public static void saveGameStatus(final World world, final SaveMode mode) {
+        write(snapshot(world, mode));
+    }
+
+    /**
+     * Captures the state of a world to be saved later, possibly on another thread.
+     * It has to be called by the thread changing the world: in {@link SaveMode#DELTA} mode only
+     * the state which can change is copied, in {@link SaveMode#FULL} mode the world is encoded.
+     *
+     * @param world the {@code World} object representing the current game state
+     * @param mode how much of the world to save
+     * @return the snapshot
+     * @throws NullPointerException if the {@code World} object or the mode are null
+     */
+    public static SaveSnapshot snapshot(final World world, final SaveMode mode) {
+        return snapshot(world, mode, null);
+    }
+
+    /**
+     * Captures the state of a world to be saved later, possibly on another thread, along with
+     * a picture of the current room to be shown in the preview of the save.
+     *
+     * @param world the {@code World} object representing the current game state
+     * @param mode how much of the world to save
+     * @param thumbnail the picture of the current room, null if none
+     * @return the snapshot
+     * @throws NullPointerException if the {@code World} object or the mode are null
+     * @see #snapshot(World, SaveMode)
+     */
+    public static SaveSnapshot snapshot(final World world, final SaveMode mode, final Thumbnail thumbnail) {
         Objects.requireNonNull(world, "World object cannot be null");
-        final var username = world.getPlayer().getName();
+        Objects.requireNonNull(mode, "Save mode cannot be null");
+        if (mode == SaveMode.DELTA) {
+            return DeltaCodec.capture(world, thumbnail);
+        }
+        final SaveOutput out = new SaveOutput();
+        WorldCodec.encode(world, out);
+        final ByteBuffer encoded = out.toByteBuffer();
+        final byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        return new Encoded(PreviewCodec.capture(world, thumbnail), bytes);
+    }
+
+    /**
+     * Encodes a snapshot and writes it to the file named after the player's username
+     * in the save folder, creating the folder if it does not exist.
+     *
+     * @param snapshot the snapshot
+     * @return the path of the save file
+     * @throws SecurityException if the save folder cannot be created
+     * @throws IllegalStateException if the save cannot be written
+     * @see #write(SaveSnapshot, String)
+     */
+    public static Path write(final SaveSnapshot snapshot) {
+        return write(snapshot, snapshot.getUsername());
+    }
+
+    /**
+     * Returns the catalog of the save folder, which is kept up to date by the saves written here.
+     *
+     * @return the catalog of the saves
+     */
+    public static SaveCatalog getCatalog() {
+        return CatalogHolder.CATALOG;
+    }
+
+    /**
+     * Returns the path of the save with the given name in the save folder.
+     *
+     * @param name the name of the save, without extension
+     * @return the path of the save file, which may not exist
+     */
+    public static Path getSaveFile(final String name) {
+        return Path.of(SAVE_FOLDER, name + SAVE_EXTENSION);
+    }
+
+    /**
+     * Encodes a snapshot and writes it to the file with the given name
+     * in the save folder, creating the folder if it does not exist.
+     *
+     * <p>The file starts with the preview of the save, in a block sized to its content which can be
+     * read on its own with {@link #readPreview(Path)}.</p>
+     *
+     * <p>The save is first written to a temporary file, which is forced to disk and then
+     * renamed over the previous save, so a crash while saving never leaves a corrupted save.</p>
+     *
+     * @param snapshot the snapshot
+     * @param name the name of the save, without extension
+     * @return the path of the save file
+     * @throws SecurityException if the save folder cannot be created
+     * @throws IllegalStateException if the save cannot be written
+     */
+    public static Path write(final SaveSnapshot snapshot, final String name) {
         final File saveDir = new File(SAVE_FOLDER);
 
         if (!saveDir.exists() && !saveDir.mkdirs()) {
             throw new SecurityException("Error creating save directory");
         }
 
-        final File saveFile = new File(SAVE_FOLDER, username + ".sav");
-
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(saveFile))) {
-            oos.writeObject(world.getPlayer());
-            oos.writeObject(world.getRooms());
+        final SaveEvent event = new SaveEvent();
+        event.begin();
+        final Path saveFile = getSaveFile(name);
+        final Path tempFile = saveDir.toPath().resolve(name + SAVE_EXTENSION + TEMP_EXTENSION);
+        final ByteBuffer buffer = encode(snapshot);
+        final int bytes = buffer.remaining();
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, saveFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, saveFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(saveDir.toPath());
+            final BasicFileAttributes attributes = Files.readAttributes(saveFile, BasicFileAttributes.class);
+            getCatalog().record(new SaveEntry(name, saveFile, attributes.lastModifiedTime().toMillis(),
+                snapshot.getPreview().room(), snapshot.getPreview().playTime(), attributes.size()));
+            event.commit(saveFile.toString(), snapshot.getPreview().room(), bytes);
+            return saveFile;
         } catch (final IOException e) {
             throw new IllegalStateException("Error saving game status", e);
         }
     }
+
+    /**
+     * Encodes a snapshot as the content of a save file: the block of its preview, then the save.
+     *
+     * @param snapshot the snapshot
+     * @return the content of the file, ready to be written
+     */
+    public static ByteBuffer encode(final SaveSnapshot snapshot) {
+        final SaveOutput out = new SaveOutput();
+        PreviewCodec.encode(snapshot.getPreview(), out);
+        snapshot.encode(out);
+        return out.toByteBuffer();
+    }
+
+    /**
+     * Forces the rename to disk, where directories can be opened; elsewhere, e.g. on Windows,
+     * the rename is durable once the move returns.
+     */
+    private static void forceDirectory(final Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException e) {
+            LOGGER.fine(() -> "Cannot force the save directory: " + e.getMessage());
+        }
+    }
+
     /**
      * Loads the game status from the specified save file.
      *
@@ -75,14 +257,111 @@ public final class SaveManager {
         if (!saveFile.exists()) {
             throw new IllegalArgumentException("Save file does not exist");
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(saveFile))) {
+        final LoadEvent event = new LoadEvent();
+        event.begin();
+        long bytes = 0;
+        String format = null;
+        World world = null;
+        try {
+            final ByteBuffer data = read(saveFile);
+            bytes = data.limit();
+            final ByteBuffer buffer = PreviewCodec.skip(data);
+            if (SaveFormat.isDelta(buffer)) {
+                format = "delta";
+                world = DeltaCodec.decode(new SaveInput(buffer));
+            } else if (SaveFormat.isBinary(buffer)) {
+                format = "binary";
+                world = WorldCodec.decode(new SaveInput(buffer));
+            } else {
+                format = "legacy";
+                world = WorldCodec.migrate(loadLegacy(buffer), SaveFormat.LEGACY_VERSION);
+            }
+        } catch (IOException | ClassNotFoundException | CorruptSaveException e) {
+            LOGGER.fine(() -> "Cannot load " + saveFile + ": " + e.getMessage());
+        }
+        event.commit(saveFile.getPath(), format, bytes, world != null);
+        return world;
+    }
+
+    /**
+     * Reads the preview of a save, i.e. the block at the start of the file, without reading the rest of it.
+     *
+     * @param saveFile the save file
+     * @return the preview of the save, or empty if the save has none, e.g. because it was written by
+     *     an older version of the game, or it cannot be read
+     * @throws NullPointerException if the save file is null
+     */
+    public static Optional<SavePreview> readPreview(final Path saveFile) {
+        Objects.requireNonNull(saveFile, "Save file cannot be null");
+        try (FileChannel channel = FileChannel.open(saveFile, StandardOpenOption.READ)) {
+            final int size = PreviewCodec.blockSize(readHead(channel, ByteBuffer.allocate(PreviewCodec.PREFIX_SIZE)));
+            return size == 0
+                ? Optional.empty()
+                : PreviewCodec.decode(readHead(channel, ByteBuffer.allocate(size)));
+        } catch (final IOException | CorruptSaveException e) {
+            LOGGER.fine(() -> "Cannot read the preview of " + saveFile + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fills a buffer with the bytes at the start of a file, or with as many as the file has.
+     */
+    private static ByteBuffer readHead(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer, buffer.position());
+        }
+        return buffer.flip();
+    }
+
+    private static ByteBuffer read(final File saveFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(saveFile.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static World loadLegacy(final ByteBuffer buffer) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.array(), buffer.position(), buffer.remaining()))) {
             final var player = (Player) ois.readObject();
 
             @SuppressWarnings("unchecked")
             final var rooms = (List<Room>) ois.readObject();
             return new WorldImpl(rooms, player);
-        } catch (IOException | ClassNotFoundException e) {
-            return null;
+        }
+    }
+
+    /**
+     * Opens the catalog the first time it is needed.
+     */
+    private static final class CatalogHolder {
+        private static final SaveCatalog CATALOG = new SaveCatalogImpl(Path.of(SAVE_FOLDER));
+    }
+
+    /**
+     * A world already encoded, in {@link SaveMode#FULL} mode.
+     */
+    private record Encoded(SavePreview preview, byte[] bytes) implements SaveSnapshot {
+
+        @Override
+        public String getUsername() {
+            return preview.username();
+        }
+
+        @Override
+        public SavePreview getPreview() {
+            return preview;
+        }
+
+        @Override
+        public void encode(final SaveOutput out) {
+            out.writeBytes(bytes);
         }
     }
 }
@@ -0,0 +1,21 @@
+package mindescape.model.saveload.util;
+
+import mindescape.model.saveload.codec.DeltaCodec;
+import mindescape.model.saveload.codec.WorldCodec;
+
+/**
+ * How much of the world a save holds.
+ */
+public enum SaveMode {
+
+    /**
+     * The whole world, rooms and objects included, as written by {@link WorldCodec}.
+     * Needed by worlds which are not loaded from the maps of the game.
+     */
+    FULL,
+
+    /**
+     * Only what changed with respect to the maps of the game, as written by {@link DeltaCodec}.
+     */
+    DELTA
+}
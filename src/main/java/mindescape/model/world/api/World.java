@@ -1,9 +1,12 @@
 package mindescape.model.world.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import mindescape.model.api.Model;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.Progress;
 import mindescape.model.world.core.api.Movement;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
@@ -42,6 +45,41 @@ public interface World extends Model {
      */
     boolean hasWon();
 
+    /**
+     * Subscribes a listener to the events of the game, such as objects unlocked or enigmas solved.
+     *
+     * @param listener the listener to subscribe
+     */
+    void addGameEventListener(GameEventListener listener);
+
+    /**
+     * Unsubscribes a listener from the events of the game.
+     *
+     * @param listener the listener to unsubscribe
+     */
+    void removeGameEventListener(GameEventListener listener);
+
+    /**
+     * Retrieves the progress of the player, kept up to date as the game goes on.
+     *
+     * @return the {@link Progress} of the player.
+     */
+    Progress getProgress();
+
+    /**
+     * Retrieves the time the player has spent playing in this world, saves included.
+     *
+     * @return the play time.
+     */
+    Duration getPlayTime();
+
+    /**
+     * Adds to the play time the time elapsed in the game, e.g. the duration of a tick.
+     *
+     * @param elapsed the elapsed time, not negative
+     */
+    void addPlayTime(Duration elapsed);
+
     /**
      * Retrieves the current room in the world.
      *
@@ -21,6 +21,44 @@ public interface GameObject {
      */
     void setPosition(Point2D position);
 
+    /**
+     * Moves the game object to the given coordinates, without allocating a {@link Point2D}.
+     *
+     * @param x the new x-coordinate of the upper left corner of the game object
+     * @param y the new y-coordinate of the upper left corner of the game object
+     */
+    void setPosition(double x, double y);
+
+    /**
+     * Retrieves the x-coordinate of the upper left corner of the game object.
+     * The result is meaningless if the position is not set.
+     *
+     * @return the x-coordinate of the game object.
+     */
+    double getX();
+
+    /**
+     * Retrieves the y-coordinate of the upper left corner of the game object.
+     * The result is meaningless if the position is not set.
+     *
+     * @return the y-coordinate of the game object.
+     */
+    double getY();
+
+    /**
+     * Retrieves the width of the game object, 0 if it has no dimensions.
+     *
+     * @return the width of the game object.
+     */
+    double getWidth();
+
+    /**
+     * Retrieves the height of the game object, 0 if it has no dimensions.
+     *
+     * @return the height of the game object.
+     */
+    double getHeight();
+
     /**
      * Retrieves the name of the game object.
      *
@@ -0,0 +1,48 @@
+package mindescape.model.world.core.api;
+
+import java.util.Set;
+
+/**
+ * A spatial index over the objects of a room, used to narrow down the candidates
+ * of a collision check to the objects close to a given area.
+ */
+public interface SpatialIndex {
+
+    /**
+     * Adds an object to the index, using its current position and dimensions.
+     * @param gameObject the object to add
+     */
+    void insert(GameObject gameObject);
+
+    /**
+     * Removes an object from the index.
+     * @param gameObject the object to remove
+     */
+    void remove(GameObject gameObject);
+
+    /**
+     * Removes every object from the index.
+     */
+    void clear();
+
+    /**
+     * Returns the objects which may overlap the given area.
+     * The result can contain objects that are close to the area without touching it,
+     * an exact test is left to the caller.
+     * @param position the upper left corner of the area
+     * @param dim the dimensions of the area
+     * @return the set of the candidate objects
+     */
+    Set<GameObject> query(Point2D position, Dimensions dim);
+
+    /**
+     * Returns an object of the index, other than the player, actually overlapping the given area.
+     * Unlike {@link #query(Point2D, Dimensions)}, this does not allocate.
+     * @param x the x-coordinate of the upper left corner of the area
+     * @param y the y-coordinate of the upper left corner of the area
+     * @param width the width of the area
+     * @param height the height of the area
+     * @return an object overlapping the area, or null if there is none
+     */
+    GameObject findColliding(double x, double y, double width, double height);
+}
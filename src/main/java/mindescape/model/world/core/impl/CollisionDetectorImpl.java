@@ -33,11 +33,24 @@ public final class CollisionDetectorImpl implements CollisionDetector {
      * @return true if the objects are colliding, false otherwise
      */
     private boolean areColliding(final Point2D position, final Dimensions dim, final GameObject obj) {
-        final Point2D objPos = obj.getPosition();
-        final Dimensions objDim = obj.getDimensions();
-        return position.x() < objPos.x() + objDim.width() 
-            && position.x() + dim.width() > objPos.x()
-            &&   position.y() < objPos.y() + objDim.height()
-            &&   position.y() + dim.height() > objPos.y();
+        return areColliding(position.x(), position.y(), dim.width(), dim.height(), obj);
+    }
+
+    /**
+     * Checks if an area overlaps an object, reading only primitive fields so that nothing is allocated.
+     *
+     * @param x the x-coordinate of the upper left corner of the area
+     * @param y the y-coordinate of the upper left corner of the area
+     * @param width the width of the area
+     * @param height the height of the area
+     * @param obj the object to check collision against
+     * @return true if the area and the object are colliding, false otherwise
+     */
+    public static boolean areColliding(final double x, final double y, final double width, final double height,
+        final GameObject obj) {
+        return x < obj.getX() + obj.getWidth()
+            && x + width > obj.getX()
+            && y < obj.getY() + obj.getHeight()
+            && y + height > obj.getY();
     }
 }
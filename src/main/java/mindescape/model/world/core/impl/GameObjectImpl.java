@@ -1,7 +1,14 @@
 package mindescape.model.world.core.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Optional;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventEmitter;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Point2D;
@@ -13,13 +20,24 @@ import mindescape.model.world.core.api.Point2D;
  * This class includes attributes such as position, name, and dimensions. It also
  * implements {@link Serializable} to allow objects to be saved and loaded.
  * </p>
+ * <p>
+ * Position and dimensions are kept in primitive fields, so moving an object or testing it
+ * for collisions does not allocate: the {@link Point2D} returned by {@link #getPosition()}
+ * is only built when asked for, and kept until the object moves again.
+ * </p>
  */
-public class GameObjectImpl implements GameObject, Serializable {
+public class GameObjectImpl implements GameObject, GameEventEmitter, Serializable {
 
     private static final long serialVersionUID = 1L;
     private Point2D position;
     private final String name;
     private final Dimensions dimensions;
+    private transient double x;
+    private transient double y;
+    private transient double width;
+    private transient double height;
+    private transient boolean positionStale;
+    private transient GameEventListener eventListener;
 
     /**
      * Constructs a new {@code GameObjectImpl} with the specified position, name, and dimensions.
@@ -30,9 +48,10 @@ public class GameObjectImpl implements GameObject, Serializable {
      * @param dimensions the dimensions of the game object
      */
     public GameObjectImpl(final Point2D position, final String name, final Dimensions dimensions) {
-        this.position = position;
         this.name = name;
         this.dimensions = dimensions;
+        place(position);
+        initDimensions();
     }
 
     /**
@@ -42,6 +61,10 @@ public class GameObjectImpl implements GameObject, Serializable {
      */
     @Override
     public Point2D getPosition() {
+        if (positionStale) {
+            this.position = new Point2D(x, y);
+            this.positionStale = false;
+        }
         return this.position;
     }
 
@@ -52,7 +75,58 @@ public class GameObjectImpl implements GameObject, Serializable {
      */
     @Override
     public void setPosition(final Point2D position) {
+        place(position);
+    }
+
+    private void place(final Point2D position) {
         this.position = position;
+        this.positionStale = false;
+        if (position != null) {
+            this.x = position.x();
+            this.y = position.y();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+        this.positionStale = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWidth() {
+        return this.width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHeight() {
+        return this.height;
     }
 
     /**
@@ -74,4 +148,41 @@ public class GameObjectImpl implements GameObject, Serializable {
     public Dimensions getDimensions() {
         return this.dimensions;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGameEventListener(final GameEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    /**
+     * Sends an event about this object to the listener, if any.
+     *
+     * @param type the kind of event
+     */
+    protected void fireEvent(final GameEventType type) {
+        if (this.eventListener != null) {
+            this.eventListener.onEvent(new GameEvent(type, this.name));
+        }
+    }
+
+    private void initDimensions() {
+        if (dimensions != null) {
+            this.width = dimensions.width();
+            this.height = dimensions.height();
+        }
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getPosition();
+        out.defaultWriteObject();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        place(this.position);
+        initDimensions();
+    }
 }
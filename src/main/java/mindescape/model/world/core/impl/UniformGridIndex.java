@@ -0,0 +1,175 @@
+package mindescape.model.world.core.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+import mindescape.model.world.player.api.Player;
+
+/**
+ * Implementation of {@link SpatialIndex} which splits the area in a grid of cells of the same size.
+ * <p>
+ * Every object is stored in all the cells it overlaps, so a query only looks at the cells
+ * covered by the requested area instead of every object. Objects are expected not to move
+ * while indexed: to move one it has to be removed and inserted again.
+ * </p>
+ */
+public final class UniformGridIndex implements SpatialIndex {
+
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+    private final List<List<GameObject>> cells;
+    private final Map<GameObject, CellRange> ranges = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty index covering an area of the given dimensions.
+     * @param area the dimensions of the indexed area
+     * @param cell the dimensions of a single cell, usually {@link Dimensions#TILE}
+     */
+    public UniformGridIndex(final Dimensions area, final Dimensions cell) {
+        Objects.requireNonNull(area, "Area must not be null");
+        Objects.requireNonNull(cell, "Cell must not be null");
+        this.cellWidth = cell.width();
+        this.cellHeight = cell.height();
+        this.columns = Math.max(1, (int) Math.ceil(area.width() / cellWidth));
+        this.rows = Math.max(1, (int) Math.ceil(area.height() / cellHeight));
+        this.cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            this.cells.add(null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insert(final GameObject gameObject) {
+        Objects.requireNonNull(gameObject, "Game object must not be null");
+        if (ranges.containsKey(gameObject)) {
+            return;
+        }
+        final CellRange range = new CellRange(
+            column(gameObject.getX()),
+            row(gameObject.getY()),
+            column(gameObject.getX() + gameObject.getWidth()),
+            row(gameObject.getY() + gameObject.getHeight())
+        );
+        ranges.put(gameObject, range);
+        for (int row = range.firstRow(); row <= range.lastRow(); row++) {
+            for (int column = range.firstColumn(); column <= range.lastColumn(); column++) {
+                final int index = row * columns + column;
+                List<GameObject> cell = cells.get(index);
+                if (cell == null) {
+                    cell = new ArrayList<>();
+                    cells.set(index, cell);
+                }
+                cell.add(gameObject);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final GameObject gameObject) {
+        final CellRange range = ranges.remove(gameObject);
+        if (range == null) {
+            return;
+        }
+        for (int row = range.firstRow(); row <= range.lastRow(); row++) {
+            for (int column = range.firstColumn(); column <= range.lastColumn(); column++) {
+                cells.get(row * columns + column).remove(gameObject);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        ranges.clear();
+        for (int i = 0; i < cells.size(); i++) {
+            cells.set(i, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<GameObject> query(final Point2D position, final Dimensions dim) {
+        final CellRange range = rangeOf(position, dim);
+        final Set<GameObject> result = new HashSet<>();
+        for (int row = range.firstRow(); row <= range.lastRow(); row++) {
+            for (int column = range.firstColumn(); column <= range.lastColumn(); column++) {
+                final List<GameObject> cell = cells.get(row * columns + column);
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameObject findColliding(final double x, final double y, final double width, final double height) {
+        final int lastRow = row(y + height);
+        final int lastColumn = column(x + width);
+        for (int row = row(y); row <= lastRow; row++) {
+            for (int column = column(x); column <= lastColumn; column++) {
+                final List<GameObject> cell = cells.get(row * columns + column);
+                if (cell != null) {
+                    for (int i = 0; i < cell.size(); i++) {
+                        final GameObject candidate = cell.get(i);
+                        if (!(candidate instanceof Player)
+                            && CollisionDetectorImpl.areColliding(x, y, width, height, candidate)) {
+                            return candidate;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private CellRange rangeOf(final Point2D position, final Dimensions dim) {
+        return new CellRange(
+            column(position.x()),
+            row(position.y()),
+            column(position.x() + dim.width()),
+            row(position.y() + dim.height())
+        );
+    }
+
+    private int column(final double x) {
+        return clamp((int) Math.floor(x / cellWidth), columns);
+    }
+
+    private int row(final double y) {
+        return clamp((int) Math.floor(y / cellHeight), rows);
+    }
+
+    private static int clamp(final int value, final int size) {
+        return Math.max(0, Math.min(value, size - 1));
+    }
+
+    /**
+     * The cells, inclusive, covered by an object.
+     */
+    private record CellRange(int firstColumn, int firstRow, int lastColumn, int lastRow) {
+    }
+}
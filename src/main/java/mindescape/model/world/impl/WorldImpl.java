@@ -1,42 +1,68 @@
 package mindescape.model.world.impl;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.events.api.GameEvent;
+import mindescape.model.events.api.GameEventBus;
+import mindescape.model.events.api.GameEventEmitter;
+import mindescape.model.events.api.GameEventListener;
+import mindescape.model.events.api.GameEventType;
+import mindescape.model.events.api.Progress;
+import mindescape.model.events.impl.GameEventBusImpl;
+import mindescape.model.events.impl.ProgressTracker;
+import mindescape.model.events.impl.WinCondition;
 import mindescape.model.world.api.World;
-import mindescape.model.world.core.api.CollisionDetector;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Movement;
 import mindescape.model.world.core.api.Point2D;
-import mindescape.model.world.core.impl.CollisionDetectorImpl;
 import mindescape.model.world.items.interactable.api.Interactable;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.api.Unpickable;
 import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithPickable;
 import mindescape.model.world.items.interactable.impl.LockedUnpickable;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.player.impl.PlayerImpl;
 import mindescape.model.world.rooms.api.Room;
 import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.utils.jfr.PlayerMoveEvent;
+import mindescape.utils.metrics.GameMetrics;
 
 /**
  * Implementation of the World interface.
+ * <p>
+ * The objects and the enigmas of the rooms publish their {@link GameEvent}s on a bus owned by the world,
+ * which keeps the win condition and the progress of the player up to date as the events arrive.
+ * </p>
  */
 public final class WorldImpl implements World, Serializable {
 
     private static final long serialVersionUID = 1L;
+    private static final Point2D PLAYER_POSITION = new Point2D(110, 170);
+    private static final String FINAL_ROOM = "final";
+    private static final String WINNING_OBJECT = "Mirror";
     private final Player player;
     private final List<Room> rooms;
+    private long playTime;
 
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
-    private final transient CollisionDetector collisionDetector;
+    private transient Optional<GameObject> collidingObject;
 
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
-    private transient Optional<GameObject> collidingObject;
-    private final Point2D playerPosition = new Point2D(110, 170);
+    private final transient GameEventBus events;
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private final transient WinCondition winCondition;
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private final transient ProgressTracker progress;
 
     /**
      * Constructs a new WorldImpl instance.
@@ -44,15 +70,11 @@ public final class WorldImpl implements World, Serializable {
      * @param username the username of the player
      */
     public WorldImpl(final String username) {
-        this.rooms = RoomImpl.createRooms();
-        final var currentRoom = rooms.stream()
-            .filter(x -> "bedroom".equals(x.getName()))
-            .findFirst()
-            .get();
-        this.player = new PlayerImpl(playerPosition, username, Dimensions.TILE, currentRoom);
-        currentRoom.addGameObject(player);
-        this.collisionDetector = new CollisionDetectorImpl();
-        this.collidingObject = Optional.empty();
+        this(RoomImpl.createRooms(), username);
+    }
+
+    private WorldImpl(final List<Room> rooms, final String username) {
+        this(rooms, spawnPlayer(rooms, username));
     }
 
     /**
@@ -65,8 +87,80 @@ public final class WorldImpl implements World, Serializable {
     public WorldImpl(final List<Room> rooms, final Player player) {
         this.rooms = rooms;
         this.player = player;
-        this.collisionDetector = new CollisionDetectorImpl();
         this.collidingObject = Optional.empty();
+        this.events = new GameEventBusImpl();
+        this.winCondition = new WinCondition(WINNING_OBJECT, isWinningObjectUnlocked());
+        this.progress = new ProgressTracker(unlockedObjects(), solvedEnigmas(),
+            player.getInventory().getItems().stream().map(Pickable::getName).toList());
+        this.events.subscribe(this.winCondition);
+        this.events.subscribe(this.progress);
+        this.rooms.forEach(this::connectEmitters);
+    }
+
+    private static Player spawnPlayer(final List<Room> rooms, final String username) {
+        final var currentRoom = rooms.stream()
+            .filter(x -> "bedroom".equals(x.getName()))
+            .findFirst()
+            .get();
+        final Player player = new PlayerImpl(PLAYER_POSITION, username, Dimensions.TILE, currentRoom);
+        currentRoom.addGameObject(player);
+        return player;
+    }
+
+    /**
+     * Makes the objects of a room, and their enigmas, publish their events on the bus of the world.
+     * An object unlocked, or whose enigma is solved, is also notified to the listeners of the room,
+     * as its state has changed.
+     *
+     * @param room the room
+     */
+    private void connectEmitters(final Room room) {
+        for (final GameObject gameObject : room.getGameObjects()) {
+            final GameEventListener publisher = event -> {
+                this.events.publish(event);
+                if (event.type() == GameEventType.UNLOCKED || event.type() == GameEventType.SOLVED) {
+                    room.notifyObjectChanged(gameObject);
+                }
+            };
+            if (gameObject instanceof GameEventEmitter) {
+                ((GameEventEmitter) gameObject).setGameEventListener(publisher);
+            }
+            if (gameObject instanceof UnpickableWithEnigma
+                && ((UnpickableWithEnigma) gameObject).getEnigma() instanceof GameEventEmitter) {
+                ((GameEventEmitter) ((UnpickableWithEnigma) gameObject).getEnigma()).setGameEventListener(publisher);
+            }
+        }
+    }
+
+    /**
+     * Scans the rooms for the winning object, to know whether a loaded game was already won.
+     */
+    private boolean isWinningObjectUnlocked() {
+        return this.rooms.stream()
+            .filter(room -> FINAL_ROOM.equals(room.getName()))
+            .flatMap(room -> room.getGameObjects().stream())
+            .filter(x -> WINNING_OBJECT.equals(x.getName()) && x instanceof Unpickable)
+            .anyMatch(x -> ((Unpickable) x).isUnlocked());
+    }
+
+    private List<String> unlockedObjects() {
+        return this.rooms.stream()
+            .flatMap(room -> room.getGameObjects().stream())
+            .filter(x -> x instanceof LockedUnpickable || x instanceof DoorLockedWithPickable
+                || x instanceof UnpickableWithEnigma)
+            .filter(x -> ((Unpickable) x).isUnlocked())
+            .map(GameObject::getName)
+            .toList();
+    }
+
+    private List<String> solvedEnigmas() {
+        return this.rooms.stream()
+            .flatMap(room -> room.getGameObjects().stream())
+            .filter(x -> x instanceof UnpickableWithEnigma)
+            .map(x -> ((UnpickableWithEnigma) x).getEnigma())
+            .filter(Enigma::isSolved)
+            .map(Enigma::getName)
+            .toList();
     }
 
     /**
@@ -90,7 +184,11 @@ public final class WorldImpl implements World, Serializable {
                 enigma = Optional.of(((UnpickableWithEnigma) this.collidingObject.get()).getEnigma());
             } 
             if (this.collidingObject.get() instanceof Interactable) {
+                final Room before = this.getCurrentRoom();
                 this.player.interact((Interactable) this.collidingObject.get());
+                if (!before.equals(this.getCurrentRoom())) {
+                    this.events.publish(new GameEvent(GameEventType.ROOM_CHANGED, this.getCurrentRoom().getName()));
+                }
             }
         }
 
@@ -106,18 +204,50 @@ public final class WorldImpl implements World, Serializable {
      */
     @Override
     public boolean hasWon() {
-        final LockedUnpickable mirror = (LockedUnpickable) this.getRooms()
-            .stream()
-            .filter(room -> "final".equals(room.getName()))
-            .findFirst()
-            .get()
-            .getGameObjects()
-            .stream()
-            .filter(x -> "Mirror".equals(x.getName()))
-            .findFirst()
-            .get();
+        return this.winCondition.isMet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addGameEventListener(final GameEventListener listener) {
+        this.events.subscribe(listener);
+    }
 
-        return mirror.isUnlocked();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeGameEventListener(final GameEventListener listener) {
+        this.events.unsubscribe(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Progress getProgress() {
+        return this.progress;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration getPlayTime() {
+        return Duration.ofNanos(this.playTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPlayTime(final Duration elapsed) {
+        if (elapsed.isNegative()) {
+            throw new IllegalArgumentException("Elapsed time cannot be negative");
+        }
+        this.playTime += elapsed.toNanos();
     }
 
     /**
@@ -135,6 +265,7 @@ public final class WorldImpl implements World, Serializable {
     public void addRoom(final Room room) {
         Objects.requireNonNull(room, "Room must not be null");
         this.rooms.add(room);
+        connectEmitters(room);
     }
 
     /**
@@ -144,17 +275,25 @@ public final class WorldImpl implements World, Serializable {
     public void movePlayer(final Movement movement) {
         Objects.requireNonNull(movement, "Movement must not be null");
 
-        final var playerPosition = this.player.getPosition();
-        final var position = new Point2D(playerPosition.x() + movement.getX(), playerPosition.y() + movement.getY());
-        final var collidingObject = this.collisionDetector.collisions(
-            position, this.player.getDimensions(), 
-            this.getCurrentRoom().getGameObjects()
+        final PlayerMoveEvent event = PlayerMoveEvent.beginIfEnabled();
+        final long start = System.nanoTime();
+        final var collidingObject = this.getCurrentRoom().getCollidingObject(
+            this.player.getX() + movement.getX(),
+            this.player.getY() + movement.getY(),
+            this.player.getWidth(),
+            this.player.getHeight()
         );
+        GameMetrics.COLLISION.recordSince(start);
 
         if (collidingObject.isEmpty()) {
             this.player.move(movement);
         } 
         this.setCollidingObject(collidingObject);
+        if (event != null) {
+            final Room room = this.getCurrentRoom();
+            event.commit(room.getName(), movement.name(), room.getGameObjects().size(),
+                collidingObject.map(GameObject::getName).orElse(null));
+        }
     }
 
     private void setCollidingObject(final Optional<GameObject> collidingObject) {
@@ -7,6 +7,7 @@ import mindescape.model.world.core.impl.GameObjectImpl;
 import mindescape.model.world.items.interactable.api.Door;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.utils.jfr.RoomTransitionEvent;
 
 /**
  * Represents a concrete implementation of the {@link Door} interface.
@@ -59,10 +60,14 @@ public final class DoorImpl extends GameObjectImpl implements Door {
      */
     @Override
     public void onAction(final Player player) {
+        final RoomTransitionEvent event = new RoomTransitionEvent();
+        event.begin();
+        final String from = player.getCurrentRoom().getName();
         player.getCurrentRoom().removeGameObject(player);
         player.setCurrentRoom(this.destinationRoom);
         player.getCurrentRoom().addGameObject(player);
         player.setPosition(destinationPosition);
+        event.commit(getName(), from, this.destinationRoom.getName(), this.destinationRoom.getGameObjects().size());
     }
 
     /**
@@ -74,4 +79,23 @@ public final class DoorImpl extends GameObjectImpl implements Door {
     public boolean isUnlocked() {
         return true; 
     }
+
+    /**
+     * Retrieves the room the door leads to.
+     *
+     * @return the destination room
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The destination room has to be exposed for the game logic")
+    public Room getDestinationRoom() {
+        return this.destinationRoom;
+    }
+
+    /**
+     * Retrieves the position the player is placed at in the destination room.
+     *
+     * @return the destination position
+     */
+    public Point2D getDestinationPosition() {
+        return this.destinationPosition;
+    }
 }
@@ -1,6 +1,8 @@
 package mindescape.model.world.items.interactable.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.impl.GameObjectImpl;
 import mindescape.model.world.items.interactable.api.Door;
 import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
@@ -24,7 +26,7 @@ public final class DoorLockedWithEnigma extends GameObjectImpl implements Door,
 
     private final Door baseDoor;
     private final Enigma enigma;
-
+    private transient boolean announced;
 
     /**
      * Constructs a door locked with an enigma.
@@ -50,6 +52,10 @@ public final class DoorLockedWithEnigma extends GameObjectImpl implements Door,
     @Override
     public void onAction(final Player player) {
         if (this.isUnlocked()) {
+            if (!this.announced) {
+                this.announced = true;
+                fireEvent(GameEventType.UNLOCKED);
+            }
             this.baseDoor.onAction(player);
         }
     }
@@ -73,4 +79,14 @@ public final class DoorLockedWithEnigma extends GameObjectImpl implements Door,
     public Enigma getEnigma() {
         return this.enigma; 
     }
+
+    /**
+     * Retrieves the door decorated by this lock.
+     *
+     * @return the base door
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The base door is part of this door")
+    public Door getBaseDoor() {
+        return this.baseDoor;
+    }
 }
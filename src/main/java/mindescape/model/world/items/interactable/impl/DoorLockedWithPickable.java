@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.impl.GameObjectImpl;
 import mindescape.model.world.items.interactable.api.Door;
 import mindescape.model.world.items.interactable.api.Pickable;
@@ -51,7 +53,10 @@ public final class DoorLockedWithPickable extends GameObjectImpl implements Door
         if (player.getInventory().getItems().stream()
                 .map(Pickable::getId)
                 .anyMatch(id -> id.equals(this.keyItemId))) {
-            this.unlocked = true;
+            if (!this.unlocked) {
+                this.unlocked = true;
+                fireEvent(GameEventType.UNLOCKED);
+            }
             this.baseDoor.onAction(player);
         }
     }
@@ -65,4 +70,32 @@ public final class DoorLockedWithPickable extends GameObjectImpl implements Door
     public boolean isUnlocked() {
         return this.unlocked;
     }
+
+    /**
+     * Retrieves the door decorated by this lock.
+     *
+     * @return the base door
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The base door is part of this door")
+    public Door getBaseDoor() {
+        return this.baseDoor;
+    }
+
+    /**
+     * Retrieves the ID of the item required to unlock the door.
+     *
+     * @return the ID of the key item
+     */
+    public int getKeyItemId() {
+        return this.keyItemId;
+    }
+
+    /**
+     * Sets whether the door is unlocked, e.g. when restoring a saved game.
+     *
+     * @param unlocked {@code true} if the door is unlocked
+     */
+    public void setUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
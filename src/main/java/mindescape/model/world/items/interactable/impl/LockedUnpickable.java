@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -60,10 +62,14 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
                   .anyMatch(id -> id.equals(this.keyItemId))
             && player.getInventory().getItems().stream()
                   .noneMatch(item -> item.equals(this.reward))) {
+            final boolean wasUnlocked = this.unlocked;
             this.unlocked = true;
             if (this.reward != null) {
                 player.getInventory().addItems(this.reward);
             }
+            if (!wasUnlocked) {
+                fireEvent(GameEventType.UNLOCKED);
+            }
         }
     }
 
@@ -76,4 +82,32 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
     public boolean isUnlocked() {
         return this.unlocked;
     }
+
+    /**
+     * Retrieves the ID of the item required to unlock the object.
+     *
+     * @return the ID of the key item
+     */
+    public int getKeyItemId() {
+        return this.keyItemId;
+    }
+
+    /**
+     * Retrieves the item rewarded after unlocking.
+     *
+     * @return the reward, null if there is none
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The reward is shared with the inventory of the player")
+    public Pickable getReward() {
+        return this.reward;
+    }
+
+    /**
+     * Sets whether the object is unlocked, e.g. when restoring a saved game.
+     *
+     * @param unlocked {@code true} if the object is unlocked
+     */
+    public void setUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
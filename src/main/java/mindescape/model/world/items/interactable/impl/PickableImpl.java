@@ -1,5 +1,6 @@
 package mindescape.model.world.items.interactable.impl;
 
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -57,6 +58,7 @@ public final class PickableImpl extends GameObjectImpl implements Pickable {
     public void onAction(final Player player) {
         player.getInventory().addItems(this);
         player.getCurrentRoom().removeGameObject(this);
+        fireEvent(GameEventType.PICKED);
     }
 
     /**
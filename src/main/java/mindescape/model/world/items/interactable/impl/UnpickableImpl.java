@@ -1,5 +1,6 @@
 package mindescape.model.world.items.interactable.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -68,4 +69,23 @@ public class UnpickableImpl extends GameObjectImpl implements Unpickable {
     public boolean isUnlocked() {
         return this.unlocked; 
     }
+
+    /**
+     * Retrieves the item rewarded after unlocking.
+     *
+     * @return the reward, null if there is none
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The reward is shared with the inventory of the player")
+    public Pickable getReward() {
+        return this.reward;
+    }
+
+    /**
+     * Sets whether the object is unlocked, e.g. when restoring a saved game.
+     *
+     * @param unlocked {@code true} if the object is unlocked
+     */
+    public void setUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
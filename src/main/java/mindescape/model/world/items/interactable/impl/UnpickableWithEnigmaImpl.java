@@ -1,6 +1,8 @@
 package mindescape.model.world.items.interactable.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.events.api.GameEventType;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -27,6 +29,7 @@ public class UnpickableWithEnigmaImpl extends GameObjectImpl implements Unpickab
     private static final long serialVersionUID = 1L;
     private final Pickable reward;
     private final Enigma enigma;
+    private transient boolean announced;
 
     /**
      * Constructs an unpickable object that requires solving an enigma to unlock.
@@ -56,6 +59,10 @@ public class UnpickableWithEnigmaImpl extends GameObjectImpl implements Unpickab
      */
     @Override
     public void onAction(final Player player) {
+        if (this.isUnlocked() && !this.announced) {
+            this.announced = true;
+            fireEvent(GameEventType.UNLOCKED);
+        }
         if (this.isUnlocked() 
             && this.reward != null) {
             player.getInventory().addItems(this.reward);
@@ -81,4 +88,14 @@ public class UnpickableWithEnigmaImpl extends GameObjectImpl implements Unpickab
     public Enigma getEnigma() {
         return this.enigma; 
     }
+
+    /**
+     * Retrieves the item rewarded after unlocking.
+     *
+     * @return the reward, null if there is none
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The reward is shared with the inventory of the player")
+    public Pickable getReward() {
+        return this.reward;
+    }
 }
@@ -45,9 +45,7 @@ public final class PlayerImpl extends GameObjectImpl implements Player {
      */
     @Override
     public void move(final Movement movement) {
-        final var currentPosition = getPosition();
-        final var newPosition = new Point2D(currentPosition.x() + movement.getX(), currentPosition.y() + movement.getY()); 
-        setPosition(newPosition);
+        setPosition(getX() + movement.getX(), getY() + movement.getY());
    }
 
     /**
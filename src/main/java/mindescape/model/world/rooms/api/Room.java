@@ -1,5 +1,6 @@
 package mindescape.model.world.rooms.api;
 
+import java.util.Optional;
 import java.util.Set;
 
 import mindescape.model.world.core.api.Dimensions;
@@ -28,12 +29,50 @@ public interface Room {
      */
     void removeGameObject(GameObject gameObject);
 
+    /**
+     * Notifies the listeners of the room that the state of one of its objects has changed.
+     * @param gameObject the object changed.
+     */
+    void notifyObjectChanged(GameObject gameObject);
+
+    /**
+     * Registers a listener of the changes to the objects of the room.
+     * @param listener the listener to add.
+     */
+    void addRoomListener(RoomListener listener);
+
+    /**
+     * Unregisters a listener of the changes to the objects of the room.
+     * @param listener the listener to remove.
+     */
+    void removeRoomListener(RoomListener listener);
+
     /**
      * Returns all the objects of the room.
      * @return the objects of the room as a (?, to decide)
      */
     Set<GameObject> getGameObjects();
 
+    /**
+     * Returns the objects of the room which may overlap the given area,
+     * to be used as the candidates of a collision check.
+     * @param pos the upper left corner of the area
+     * @param dim the dimensions of the area
+     * @return the objects close to the area
+     */
+    Set<GameObject> getNearbyGameObjects(Point2D pos, Dimensions dim);
+
+    /**
+     * Returns an object of the room, other than the player, overlapping the given area.
+     * Nothing is allocated unless an object is found.
+     * @param x the x-coordinate of the upper left corner of the area
+     * @param y the y-coordinate of the upper left corner of the area
+     * @param width the width of the area
+     * @param height the height of the area
+     * @return an optional of the object overlapping the area
+     */
+    Optional<GameObject> getCollidingObject(double x, double y, double width, double height);
+
     /**
      * Checks if a position is valid based on the bounds of the room.
      * @param pos the position of the object (as the upper left edge)
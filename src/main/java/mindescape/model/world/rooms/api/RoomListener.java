@@ -0,0 +1,30 @@
+package mindescape.model.world.rooms.api;
+
+import mindescape.model.world.core.api.GameObject;
+
+/**
+ * Listener of the changes to the objects of a {@link Room}.
+ */
+public interface RoomListener {
+
+    /**
+     * Called when an object has been added to the room.
+     * @param room the room
+     * @param gameObject the object added
+     */
+    void objectAdded(Room room, GameObject gameObject);
+
+    /**
+     * Called when an object has been removed from the room.
+     * @param room the room
+     * @param gameObject the object removed
+     */
+    void objectRemoved(Room room, GameObject gameObject);
+
+    /**
+     * Called when the state of an object of the room has changed.
+     * @param room the room
+     * @param gameObject the object changed
+     */
+    void objectChanged(Room room, GameObject gameObject);
+}
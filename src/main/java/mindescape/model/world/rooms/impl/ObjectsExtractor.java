@@ -2,10 +2,11 @@ package mindescape.model.world.rooms.impl;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import org.tiledreader.FileSystemTiledReader;
 import org.tiledreader.TiledMap;
+import org.tiledreader.TiledObject;
 import org.tiledreader.TiledObjectLayer;
 import mindescape.model.enigma.api.EnigmaFactory;
 import mindescape.model.enigma.impl.EnigmaFactoryImpl;
@@ -32,7 +33,7 @@ public final class ObjectsExtractor {
         final InteractableFactory factory = new InteractableFactoryImpl();
         final EnigmaFactory enigmas = new EnigmaFactoryImpl();
         final RewardFactory rewards = new RewardFactory();
-        final TiledMap map = new FileSystemTiledReader().getMap(roomPath);
+        final TiledMap map = TiledMapRepository.getMap(roomPath);
         final List<TiledObjectLayer> layers = getObjectLayers(map)
             .stream().filter(layer -> !"Doors".equals(layer.getName()))
             .toList();
@@ -77,11 +78,17 @@ public final class ObjectsExtractor {
         return gameObjects;
     }
 
-    Set<GameObject> addDoors(final String roomPath, final Set<Room> rooms) {
+    /**
+     * Return the set of doors of the room, linked to their destination rooms.
+     * @param roomPath path to xml file describing the room
+     * @param rooms the rooms of the world, by name
+     * @return set of doors
+     */
+    Set<GameObject> addDoors(final String roomPath, final Map<String, Room> rooms) {
         final Set<GameObject> doors = new HashSet<>();
         final EnigmaFactory enigmas = new EnigmaFactoryImpl();
         final InteractableFactory factory = new InteractableFactoryImpl();
-        final TiledMap map = new FileSystemTiledReader().getMap(roomPath);
+        final TiledMap map = TiledMapRepository.getMap(roomPath);
         final List<TiledObjectLayer> doorLayers = getObjectLayers(map)
             .stream().filter(layer -> "Doors".equals(layer.getName()))
             .toList();
@@ -96,27 +103,18 @@ public final class ObjectsExtractor {
                     case "DoorLockedWithEnigma":
                         doors.add(factory.createDoorLockedWithEnigma(object.getName(), position, dimensions,
                             enigmas.getEnigma((String) object.getProperties().get("Enigma")),
-                            rooms.stream()
-                            .filter(x -> x.getName().equals((String) object.getProperties().get("Destination")))
-                            .findFirst()
-                            .get(),
+                            destinationOf(object, rooms),
                             destPosition));
                         break;
                     case "DoorLockedWithPickable":
                         doors.add(factory.createDoorLockedWithPickable(object.getName(), position, dimensions,
                             (Integer) object.getProperties().get("keyItem_id"),
-                            rooms.stream()
-                            .filter(x -> x.getName().equals((String) object.getProperties().get("Destination")))
-                            .findFirst()
-                            .get(),
+                            destinationOf(object, rooms),
                             destPosition));
                         break;
                     case "SimpleDoor":
                         doors.add(factory.createSimpleDoor(object.getName(), position, dimensions, 
-                            rooms.stream()
-                            .filter(x -> x.getName().equals((String) object.getProperties().get("Destination")))
-                            .findFirst()
-                            .get(),
+                            destinationOf(object, rooms),
                             destPosition));
                         break;
                     default:
@@ -131,6 +129,20 @@ public final class ObjectsExtractor {
         return doors;
     }
 
+    private Room destinationOf(final TiledObject door, final Map<String, Room> rooms) {
+        final String destination = (String) door.getProperties().get("Destination");
+        final Room room = rooms.get(destination);
+        if (room == null) {
+            throw new IllegalArgumentException(door.getName()
+                + " with ID "
+                + door.getID()
+                + " leads to the unknown room "
+                + destination
+            );
+        }
+        return room;
+    }
+
     private List<TiledObjectLayer> getObjectLayers(final TiledMap map) {
         return map.getNonGroupLayers().stream()
             .filter(layer -> layer instanceof TiledObjectLayer)
@@ -2,14 +2,20 @@ package mindescape.model.world.rooms.impl;
 
 import java.io.Serializable;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.tiledreader.FileSystemTiledReader;
 import org.tiledreader.TiledMap;
 
 import com.google.common.io.Files;
@@ -17,8 +23,14 @@ import com.google.common.io.Files;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+import mindescape.model.world.core.impl.CollisionDetectorImpl;
+import mindescape.model.world.core.impl.UniformGridIndex;
+import mindescape.model.world.player.api.Movable;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.api.RoomListener;
+import mindescape.utils.GameExecutors;
 
 /**
  * This class implements {@link Room}.
@@ -30,18 +42,33 @@ public final class RoomImpl implements Room, Serializable {
     private final Set<GameObject> gameObjects = new HashSet<>();
     private final String name;
     private final String source;
+    private transient SpatialIndex index;
+    private transient List<GameObject> movables;
+    private transient List<RoomListener> listeners;
 
     /**
      * Constructor of the class.
      * @param roomFilePath path to the rosom file
      */
     public RoomImpl(final String roomFilePath) {
-        final TiledMap room = new FileSystemTiledReader().getMap(roomFilePath);
+        final TiledMap room = TiledMapRepository.getMap(roomFilePath);
         this.dimensions = new Dimensions(room.getWidth() * Dimensions.TILE.width(), room.getHeight() * Dimensions.TILE.height());
         this.name = Files.getNameWithoutExtension(roomFilePath);
         this.source = roomFilePath;
     }
 
+    /**
+     * Constructor of an empty room which is not backed by a map file, e.g. to build rooms in tests.
+     * @param name the name of the room
+     * @param source the resource file of the room, only used to identify it
+     * @param dimensions the dimensions of the room
+     */
+    public RoomImpl(final String name, final String source, final Dimensions dimensions) {
+        this.dimensions = dimensions;
+        this.name = name;
+        this.source = source;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,8 +82,15 @@ public final class RoomImpl implements Room, Serializable {
      */
     @Override
     public void addGameObject(final GameObject gameObject) {
-        if (gameObject.getPosition() != null && isPositionValid(gameObject.getPosition(), gameObject.getDimensions())) {
-            gameObjects.add(gameObject);
+        if (gameObject.getPosition() != null && isPositionValid(gameObject.getPosition(), gameObject.getDimensions())
+            && gameObjects.add(gameObject)) {
+            ensureIndexed();
+            if (gameObject instanceof Movable) {
+                movables.add(gameObject);
+            } else {
+                index.insert(gameObject);
+            }
+            getListeners().forEach(l -> l.objectAdded(this, gameObject));
         }
     }
 
@@ -65,7 +99,48 @@ public final class RoomImpl implements Room, Serializable {
      */
     @Override
     public void removeGameObject(final GameObject gameObject) {
-        gameObjects.remove(gameObject);
+        if (gameObjects.remove(gameObject)) {
+            ensureIndexed();
+            movables.remove(gameObject);
+            index.remove(gameObject);
+            getListeners().forEach(l -> l.objectRemoved(this, gameObject));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyObjectChanged(final GameObject gameObject) {
+        if (gameObjects.contains(gameObject)) {
+            getListeners().forEach(l -> l.objectChanged(this, gameObject));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addRoomListener(final RoomListener listener) {
+        getListeners().add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeRoomListener(final RoomListener listener) {
+        getListeners().remove(listener);
+    }
+
+    /**
+     * Returns the listeners of the room, which are not serialized.
+     */
+    private List<RoomListener> getListeners() {
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<>();
+        }
+        return listeners;
     }
 
     /**
@@ -76,6 +151,57 @@ public final class RoomImpl implements Room, Serializable {
         return Collections.unmodifiableSet(this.gameObjects);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Objects that can move are not kept in the spatial index, since they change position
+     * without the room knowing it, and are always part of the result.
+     * </p>
+     */
+    @Override
+    public Set<GameObject> getNearbyGameObjects(final Point2D pos, final Dimensions dim) {
+        ensureIndexed();
+        final Set<GameObject> nearby = index.query(pos, dim);
+        nearby.addAll(movables);
+        return nearby;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameObject> getCollidingObject(final double x, final double y, final double width, final double height) {
+        ensureIndexed();
+        final GameObject colliding = index.findColliding(x, y, width, height);
+        if (colliding != null) {
+            return Optional.of(colliding);
+        }
+        for (int i = 0; i < movables.size(); i++) {
+            final GameObject movable = movables.get(i);
+            if (!(movable instanceof Player) && CollisionDetectorImpl.areColliding(x, y, width, height, movable)) {
+                return Optional.of(movable);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Builds the spatial index of the room if missing, e.g. after deserialization.
+     */
+    private void ensureIndexed() {
+        if (index == null) {
+            index = new UniformGridIndex(dimensions, Dimensions.TILE);
+            movables = new ArrayList<>();
+            for (final GameObject gameObject : gameObjects) {
+                if (gameObject instanceof Movable) {
+                    movables.add(gameObject);
+                } else {
+                    index.insert(gameObject);
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +234,10 @@ public final class RoomImpl implements Room, Serializable {
 
     /**
      * This is a static method to create the rooms.
+     * <p>
+     * The room files are parsed and their objects extracted concurrently, one room per task
+     * on the I/O threads of {@link GameExecutors}, then the doors of every room are linked to their destinations in a single pass.
+     * </p>
      * @return a list of {@link Room} from the files found in resources
      */
     public static List<Room> createRooms() {
@@ -123,20 +253,38 @@ public final class RoomImpl implements Room, Serializable {
                 .map(x -> resourceUrl.getPath() + "/" + x.getName() + ".tmx")
                 .toList();
         }
-        final List<Room> rooms = files.stream()
-            .map(RoomImpl::new)
-            .collect(Collectors.toList());
+        final List<Room> rooms = loadRooms(files, objectsExtractor);
+        final Map<String, Room> roomsByName = rooms.stream()
+            .collect(Collectors.toMap(Room::getName, Function.identity()));
         rooms.forEach(room -> {
-            objectsExtractor.extractfrom(room.getSource())
-                .forEach(room::addGameObject);
-        });
-        rooms.forEach(room -> {
-            objectsExtractor.addDoors(room.getSource(), rooms.stream().collect(Collectors.toSet()))
+            objectsExtractor.addDoors(room.getSource(), roomsByName)
                 .forEach(room::addGameObject);
         });
         return rooms;
     }
 
+    private static List<Room> loadRooms(final List<String> files, final ObjectsExtractor objectsExtractor) {
+        final List<CompletableFuture<Room>> loading = files.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> {
+                final Room room = new RoomImpl(file);
+                objectsExtractor.extractfrom(file).forEach(room::addGameObject);
+                return room;
+            }, GameExecutors.io()))
+            .toList();
+        final List<Room> rooms = new ArrayList<>(files.size());
+        try {
+            for (final CompletableFuture<Room> room : loading) {
+                rooms.add(room.join());
+            }
+            return rooms;
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error loading the rooms", e.getCause());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,147 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.tiledreader.FileSystemTiledReader;
+import org.tiledreader.TiledMap;
+
+/**
+ * Process-wide repository of the parsed room files.
+ * <p>
+ * Every {@code .tmx} file is parsed once and the resulting {@link TiledMap}, which is immutable,
+ * is shared by everyone asking for the same path. The least recently used maps are evicted
+ * once more than {@link #getCapacity()} maps are cached. Concurrent requests for a map which
+ * is still being parsed wait for the same parsing instead of starting a new one.
+ * </p>
+ */
+public final class TiledMapRepository {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final Object LOCK = new Object();
+    private static int capacity = DEFAULT_CAPACITY;
+    private static final Map<String, CompletableFuture<TiledMap>> MAPS =
+        new LinkedHashMap<>(DEFAULT_CAPACITY, LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CompletableFuture<TiledMap>> eldest) {
+                return size() > capacity;
+            }
+        };
+
+    private TiledMapRepository() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the map stored in the given file, parsing it only if it is not cached.
+     *
+     * @param path the path of the {@code .tmx} file
+     * @return the parsed map
+     * @throws NullPointerException if the path is null
+     */
+    public static TiledMap getMap(final String path) {
+        Objects.requireNonNull(path, "Path must not be null");
+        final CompletableFuture<TiledMap> map;
+        boolean owner = false;
+        synchronized (LOCK) {
+            CompletableFuture<TiledMap> cached = MAPS.get(path);
+            if (cached == null) {
+                cached = new CompletableFuture<>();
+                MAPS.put(path, cached);
+                owner = true;
+            }
+            map = cached;
+        }
+        if (owner) {
+            try {
+                map.complete(new FileSystemTiledReader().getMap(path));
+            } catch (final RuntimeException e) {
+                evict(path);
+                map.completeExceptionally(e);
+            }
+        }
+        try {
+            return map.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Parses the given files in advance, so that later requests are served from the cache.
+     *
+     * @param paths the paths of the {@code .tmx} files
+     */
+    public static void preload(final Collection<String> paths) {
+        paths.forEach(TiledMapRepository::getMap);
+    }
+
+    /**
+     * Checks if the map stored in the given file is cached.
+     *
+     * @param path the path of the {@code .tmx} file
+     * @return {@code true} if the map is cached, {@code false} otherwise
+     */
+    public static boolean isCached(final String path) {
+        synchronized (LOCK) {
+            return MAPS.containsKey(path);
+        }
+    }
+
+    /**
+     * Removes the map stored in the given file from the cache.
+     *
+     * @param path the path of the {@code .tmx} file
+     */
+    public static void evict(final String path) {
+        synchronized (LOCK) {
+            MAPS.remove(path);
+        }
+    }
+
+    /**
+     * Removes every map from the cache.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            MAPS.clear();
+        }
+    }
+
+    /**
+     * Returns the maximum number of maps kept in the cache.
+     *
+     * @return the capacity of the cache
+     */
+    public static int getCapacity() {
+        synchronized (LOCK) {
+            return capacity;
+        }
+    }
+
+    /**
+     * Sets the maximum number of maps kept in the cache, evicting the least recently used ones if needed.
+     *
+     * @param newCapacity the new capacity of the cache
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public static void setCapacity(final int newCapacity) {
+        if (newCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        synchronized (LOCK) {
+            capacity = newCapacity;
+            final var iterator = MAPS.entrySet().iterator();
+            while (MAPS.size() > capacity && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
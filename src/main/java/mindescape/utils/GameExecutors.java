@@ -0,0 +1,150 @@
+package mindescape.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * The threads of the game, shared by the controllers and the models.
+ * <p>
+ * Background jobs which mostly wait, such as loading the maps, writing the saves or decoding the
+ * images of a view, run on {@link #io()}, with a virtual thread per job when the runtime supports
+ * them, Java 21 onwards, or a daemon platform thread otherwise, so the game also runs on Java 17.
+ * The simulation instead runs on a dedicated platform thread, created by {@link #newTickThread(Runnable)},
+ * so that its timing does not depend on the scheduling of the virtual threads.
+ * </p>
+ */
+public final class GameExecutors {
+
+    /**
+     * The name of the thread running the simulation.
+     */
+    public static final String TICK_THREAD_NAME = "game-loop";
+
+    private static final String IO_THREAD_NAME = "game-io";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final Logger LOGGER = Logger.getLogger(GameExecutors.class.getName());
+    private static final Method VIRTUAL_BUILDER = findVirtualBuilder();
+    private static final ExecutorService IO = newIoExecutor();
+
+    private GameExecutors() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the executor shared by the background jobs which mostly wait on I/O.
+     * The jobs should not run forever: they are abandoned when the game exits.
+     *
+     * @return the executor of the I/O jobs
+     */
+    public static Executor io() {
+        return IO;
+    }
+
+    /**
+     * Returns a factory of threads for I/O work needing its own threads, e.g. a single thread
+     * running some jobs in order: virtual threads if supported, daemon platform threads otherwise.
+     *
+     * @param name the name of the threads
+     * @return the factory
+     */
+    public static ThreadFactory ioThreads(final String name) {
+        final ThreadFactory virtual = virtualThreads(name);
+        if (virtual != null) {
+            return virtual;
+        }
+        return task -> {
+            final Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates, without starting it, the platform thread running the simulation.
+     *
+     * @param loop the loop of the simulation
+     * @return the thread
+     */
+    public static Thread newTickThread(final Runnable loop) {
+        return new Thread(loop, TICK_THREAD_NAME);
+    }
+
+    /**
+     * Checks if the I/O jobs run on virtual threads.
+     *
+     * @return true if virtual threads are supported by the runtime
+     */
+    public static boolean isVirtual() {
+        return VIRTUAL_BUILDER != null;
+    }
+
+    /**
+     * Stops accepting I/O jobs and waits a few seconds for the running ones, e.g. before exiting.
+     */
+    public static void shutdown() {
+        IO.shutdown();
+        try {
+            if (!IO.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning("Background jobs still running on exit");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService newIoExecutor() {
+        final ThreadFactory virtual = virtualThreads(IO_THREAD_NAME);
+        if (virtual != null) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, virtual);
+            } catch (final ReflectiveOperationException e) {
+                LOGGER.fine(() -> "Thread per task executor not available: " + e);
+            }
+        }
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, IO_THREAD_NAME + "-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a factory of virtual threads named after the given prefix, or null if not supported.
+     */
+    private static ThreadFactory virtualThreads(final String name) {
+        if (VIRTUAL_BUILDER == null) {
+            return null;
+        }
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Object builder = builderType.getMethod("name", String.class)
+                .invoke(VIRTUAL_BUILDER.invoke(null), name);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException e) {
+            LOGGER.fine(() -> "Virtual threads not available: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Finds {@code Thread.ofVirtual()}, checking that virtual threads can actually be created,
+     * as they are a preview feature before Java 21.
+     */
+    private static Method findVirtualBuilder() {
+        try {
+            final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            ofVirtual.invoke(null);
+            return ofVirtual;
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An attempt at an enigma, e.g. a password typed or two pieces of a puzzle swapped.
+ */
+@Name("mindescape.EnigmaHit")
+@Label("Enigma Hit")
+@Category({ "MindEscape", "Enigmas" })
+@Description("An attempt at an enigma, e.g. a password typed or two pieces of a puzzle swapped")
+@StackTrace(false)
+public final class EnigmaHitEvent extends Event {
+
+    @Label("Enigma")
+    private String enigma;
+
+    @Label("Accepted")
+    @Description("The result of the hit: whether the attempt was right, or applied for the puzzles")
+    private boolean accepted;
+
+    @Label("Solved")
+    @Description("Whether the enigma is solved after the hit")
+    private boolean solved;
+
+    /**
+     * Commits an event for a hit, if it is enabled and passes the settings of the recording.
+     *
+     * @param enigmaName the enigma
+     * @param result the result of the hit
+     * @param solvedNow whether the enigma is solved after the hit
+     */
+    public static void emit(final String enigmaName, final boolean result, final boolean solvedNow) {
+        final EnigmaHitEvent event = new EnigmaHitEvent();
+        if (event.shouldCommit()) {
+            event.enigma = enigmaName;
+            event.accepted = result;
+            event.solved = solvedNow;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save read from disk and decoded into a world.
+ */
+@Name("mindescape.Load")
+@Label("Load")
+@Category({ "MindEscape", "Saves" })
+@Description("A save read from disk and decoded into a world")
+public final class LoadEvent extends Event {
+
+    @Label("File")
+    private String file;
+
+    @Label("Format")
+    @Description("The format of the save: delta, binary or legacy")
+    private String format;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytesRead;
+
+    @Label("Loaded")
+    @Description("Whether a world has been decoded from the save")
+    private boolean loaded;
+
+    /**
+     * Ends the event and commits it, if it is enabled and passes the settings of the recording.
+     *
+     * @param path the save file
+     * @param saveFormat the format of the save, null if unknown
+     * @param bytes the number of bytes read
+     * @param success whether a world has been decoded from the save
+     */
+    public void commit(final String path, final String saveFormat, final long bytes, final boolean success) {
+        if (shouldCommit()) {
+            this.file = path;
+            this.format = saveFormat;
+            this.bytesRead = bytes;
+            this.loaded = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A step of the player, collision check included.
+ * <p>
+ * The player moves on every tick a direction key is held, so the event is created only while it is
+ * enabled in a recording: see {@link #beginIfEnabled()}.
+ * </p>
+ */
+@Name("mindescape.PlayerMove")
+@Label("Player Move")
+@Category({ "MindEscape", "World" })
+@Description("A step of the player, collision check included")
+@StackTrace(false)
+public final class PlayerMoveEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(PlayerMoveEvent.class);
+
+    @Label("Room")
+    private String room;
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Objects")
+    @Description("The number of objects in the room")
+    private int objects;
+
+    @Label("Colliding Object")
+    @Description("The object the player bumped into, if any")
+    private String collidingObject;
+
+    /**
+     * Creates and begins an event, if the event is enabled in a running recording.
+     *
+     * @return the event, or null if it is not enabled
+     */
+    public static PlayerMoveEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        final PlayerMoveEvent event = new PlayerMoveEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it passes the settings of the recording.
+     *
+     * @param roomName the room the player moved in
+     * @param movement the direction of the step
+     * @param objectCount the number of objects in the room
+     * @param colliding the name of the object the player bumped into, null if none
+     */
+    public void commit(final String roomName, final String movement, final int objectCount, final String colliding) {
+        if (shouldCommit()) {
+            this.room = roomName;
+            this.direction = movement;
+            this.objects = objectCount;
+            this.collidingObject = colliding;
+            commit();
+        }
+    }
+}
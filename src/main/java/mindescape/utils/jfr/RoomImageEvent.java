@@ -0,0 +1,51 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The view switching to the image of another room, drawing it from its tiles the first time.
+ */
+@Name("mindescape.RoomImage")
+@Label("Room Image Update")
+@Category({ "MindEscape", "View" })
+@Description("The view switching to the image of another room, drawing it from its tiles the first time")
+public final class RoomImageEvent extends Event {
+
+    @Label("Room")
+    private String room;
+
+    @Label("Drawn")
+    @Description("Whether the image has been drawn from the tiles, rather than reused")
+    private boolean drawn;
+
+    @Label("Objects")
+    @Description("The number of objects in the room")
+    private int objects;
+
+    @Label("Image Size")
+    @DataAmount
+    private long imageSize;
+
+    /**
+     * Ends the event and commits it, if it is enabled and passes the settings of the recording.
+     *
+     * @param roomName the room shown
+     * @param drawnNow whether the image has been drawn from the tiles
+     * @param objectCount the number of objects in the room
+     * @param bytes the size of the image of the room, in bytes
+     */
+    public void commit(final String roomName, final boolean drawnNow, final int objectCount, final long bytes) {
+        if (shouldCommit()) {
+            this.room = roomName;
+            this.drawn = drawnNow;
+            this.objects = objectCount;
+            this.imageSize = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The player going through a door to another room.
+ */
+@Name("mindescape.RoomTransition")
+@Label("Room Transition")
+@Category({ "MindEscape", "World" })
+@Description("The player going through a door to another room")
+public final class RoomTransitionEvent extends Event {
+
+    @Label("Door")
+    private String door;
+
+    @Label("From Room")
+    private String fromRoom;
+
+    @Label("To Room")
+    private String toRoom;
+
+    @Label("Objects")
+    @Description("The number of objects in the room entered")
+    private int objects;
+
+    /**
+     * Ends the event and commits it, if it is enabled and passes the settings of the recording.
+     *
+     * @param doorName the door
+     * @param from the room left
+     * @param to the room entered
+     * @param objectCount the number of objects in the room entered
+     */
+    public void commit(final String doorName, final String from, final String to, final int objectCount) {
+        if (shouldCommit()) {
+            this.door = doorName;
+            this.fromRoom = from;
+            this.toRoom = to;
+            this.objects = objectCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package mindescape.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save written to disk, encoding, forcing to disk and renaming included.
+ */
+@Name("mindescape.Save")
+@Label("Save")
+@Category({ "MindEscape", "Saves" })
+@Description("A save written to disk, encoding, forcing to disk and renaming included")
+public final class SaveEvent extends Event {
+
+    @Label("File")
+    private String file;
+
+    @Label("Room")
+    private String room;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Ends the event and commits it, if it is enabled and passes the settings of the recording.
+     *
+     * @param path the save file
+     * @param roomName the room the player is in
+     * @param bytes the number of bytes written
+     */
+    public void commit(final String path, final String roomName, final long bytes) {
+        if (shouldCommit()) {
+            this.file = path;
+            this.room = roomName;
+            this.bytesWritten = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package mindescape.utils.metrics;
+
+/**
+ * The management interface of the counters of {@link GameMetrics}, exposed over JMX.
+ */
+public interface GameCountersMXBean {
+
+    /**
+     * Returns how many times the image of a room, or an area of it, has been drawn from its tiles.
+     *
+     * @return the number of room images drawn
+     */
+    long getRoomImageRebuilds();
+
+    /**
+     * Returns how many times the image of a room has been scaled to the size of the panel.
+     *
+     * @return the number of room images scaled
+     */
+    long getScaledImageRebuilds();
+
+    /**
+     * Returns how many tiles have been found in the cache of the tiles.
+     *
+     * @return the number of hits of the cache of the tiles
+     */
+    long getTileCacheHits();
+
+    /**
+     * Returns how many tiles have been cut from their sheet because they were not in the cache.
+     *
+     * @return the number of misses of the cache of the tiles
+     */
+    long getTileCacheMisses();
+
+    /**
+     * Resets all the counters.
+     */
+    void reset();
+}
@@ -0,0 +1,141 @@
+package mindescape.utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The instrumentation of the game: how long the ticks, the frames and their main steps take,
+ * and how often the images of the rooms are rebuilt.
+ * <p>
+ * The recorders and the counters are always on, as they cost a few tens of nanoseconds per sample.
+ * They are read from the debug overlay of the world, toggled by F3, and over JMX, under the domain
+ * {@value #DOMAIN}, once {@link #register()} has been called, e.g. with JConsole or Mission Control.
+ * </p>
+ */
+public final class GameMetrics {
+
+    /**
+     * The duration of a tick of the simulation, inputs, checkpoints and view update included.
+     */
+    public static final LatencyRecorder TICK = new LatencyRecorder("tick");
+    /**
+     * The time taken to apply the inputs of a tick.
+     */
+    public static final LatencyRecorder INPUT_DRAIN = new LatencyRecorder("input");
+    /**
+     * The time taken to look for the object the player collides with when moving.
+     */
+    public static final LatencyRecorder COLLISION = new LatencyRecorder("collision");
+    /**
+     * The time taken by the game loop to request the repaint of a frame.
+     */
+    public static final LatencyRecorder DRAW = new LatencyRecorder("draw");
+    /**
+     * The time taken to paint the world on the event dispatch thread.
+     */
+    public static final LatencyRecorder PAINT = new LatencyRecorder("paint");
+
+    /**
+     * The number of times the image of a room, or an area of it, has been drawn from its tiles.
+     */
+    public static final LongAdder ROOM_IMAGE_REBUILDS = new LongAdder();
+    /**
+     * The number of times the image of a room has been scaled to the size of the panel.
+     */
+    public static final LongAdder SCALED_IMAGE_REBUILDS = new LongAdder();
+    /**
+     * The number of tiles found in the cache of the tiles.
+     */
+    public static final LongAdder TILE_CACHE_HITS = new LongAdder();
+    /**
+     * The number of tiles missing from the cache of the tiles.
+     */
+    public static final LongAdder TILE_CACHE_MISSES = new LongAdder();
+
+    private static final String DOMAIN = "mindescape";
+    private static final List<LatencyRecorder> RECORDERS = List.of(TICK, INPUT_DRAIN, COLLISION, DRAW, PAINT);
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+    private static final Logger LOGGER = Logger.getLogger(GameMetrics.class.getName());
+
+    private GameMetrics() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns all the latency recorders.
+     *
+     * @return the recorders
+     */
+    public static List<LatencyRecorder> getRecorders() {
+        return RECORDERS;
+    }
+
+    /**
+     * Returns a one line summary of the counters.
+     *
+     * @return the summary
+     */
+    public static String countersSummary() {
+        return String.format("rooms %d  scaled %d  tiles %d/%d", ROOM_IMAGE_REBUILDS.sum(), SCALED_IMAGE_REBUILDS.sum(),
+            TILE_CACHE_HITS.sum(), TILE_CACHE_HITS.sum() + TILE_CACHE_MISSES.sum());
+    }
+
+    /**
+     * Registers the recorders and the counters with the platform MBean server, once.
+     * Failures are logged, since the game runs without them.
+     */
+    public static void register() {
+        if (REGISTERED.getAndSet(true)) {
+            return;
+        }
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (final LatencyRecorder recorder : RECORDERS) {
+                server.registerMBean(recorder, new ObjectName(DOMAIN + ":type=Latency,name=" + recorder.getName()));
+            }
+            server.registerMBean(new Counters(), new ObjectName(DOMAIN + ":type=Counters"));
+        } catch (final JMException e) {
+            LOGGER.warning(() -> "Cannot register the metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The counters, as an MBean.
+     */
+    private static final class Counters implements GameCountersMXBean {
+
+        @Override
+        public long getRoomImageRebuilds() {
+            return ROOM_IMAGE_REBUILDS.sum();
+        }
+
+        @Override
+        public long getScaledImageRebuilds() {
+            return SCALED_IMAGE_REBUILDS.sum();
+        }
+
+        @Override
+        public long getTileCacheHits() {
+            return TILE_CACHE_HITS.sum();
+        }
+
+        @Override
+        public long getTileCacheMisses() {
+            return TILE_CACHE_MISSES.sum();
+        }
+
+        @Override
+        public void reset() {
+            ROOM_IMAGE_REBUILDS.reset();
+            SCALED_IMAGE_REBUILDS.reset();
+            TILE_CACHE_HITS.reset();
+            TILE_CACHE_MISSES.reset();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package mindescape.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations, in nanoseconds, cheap enough to be fed on every tick and every frame.
+ * <p>
+ * Like HdrHistogram, the durations are counted in log-linear buckets: every power of two is split in
+ * {@value #SUB_BUCKETS} buckets, so any duration is known within about 6% whatever its magnitude,
+ * with a fixed amount of memory. Recording neither locks nor allocates, so it can be done by the game
+ * loop and the event dispatch thread while the histogram is being read, e.g. over JMX.
+ * </p>
+ */
+public final class LatencyRecorder implements LatencyRecorderMXBean {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+    private static final double HUNDRED = 100;
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Constructs an empty recorder.
+     *
+     * @param name the name of what is timed
+     */
+    public LatencyRecorder(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of what is timed.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration, in nanoseconds; negative durations count as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Records the time elapsed since a given instant, as returned by {@link System#nanoTime()}.
+     *
+     * @param startNanos the instant the timed operation started
+     */
+    public void recordSince(final long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the duration below which the given percentage of the durations recorded lies.
+     *
+     * @param percentile the percentage, between 0 and 100
+     * @return the duration, in nanoseconds, or zero if nothing has been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(HUNDRED, percentile) / HUNDRED * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanMicros() {
+        final long count = total.sum();
+        return count == 0 ? 0 : sum.sum() / (double) count / NANOS_PER_MICRO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getP50Micros() {
+        return getValueAtPercentile(MEDIAN) / NANOS_PER_MICRO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getP99Micros() {
+        return getValueAtPercentile(P99) / NANOS_PER_MICRO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getP999Micros() {
+        return getValueAtPercentile(P999) / NANOS_PER_MICRO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMaxMicros() {
+        return max.get() / NANOS_PER_MICRO;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Durations recorded while resetting may be partly lost.
+     * </p>
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Returns a one line summary of the distribution, in milliseconds.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%-9s p50 %6.2f  p99 %6.2f  max %6.2f ms", name,
+            getP50Micros() / NANOS_PER_MICRO, getP99Micros() / NANOS_PER_MICRO, getMaxMicros() / NANOS_PER_MICRO);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,55 @@
+package mindescape.utils.metrics;
+
+/**
+ * The management interface of a {@link LatencyRecorder}, exposing its distribution over JMX.
+ * Times are in microseconds.
+ */
+public interface LatencyRecorderMXBean {
+
+    /**
+     * Returns the number of times recorded.
+     *
+     * @return the number of times recorded
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the times recorded.
+     *
+     * @return the mean time, in microseconds
+     */
+    double getMeanMicros();
+
+    /**
+     * Returns the median of the times recorded.
+     *
+     * @return the median time, in microseconds
+     */
+    double getP50Micros();
+
+    /**
+     * Returns the 99th percentile of the times recorded.
+     *
+     * @return the 99th percentile, in microseconds
+     */
+    double getP99Micros();
+
+    /**
+     * Returns the 99.9th percentile of the times recorded.
+     *
+     * @return the 99.9th percentile, in microseconds
+     */
+    double getP999Micros();
+
+    /**
+     * Returns the longest time recorded.
+     *
+     * @return the longest time, in microseconds
+     */
+    double getMaxMicros();
+
+    /**
+     * Forgets the times recorded so far.
+     */
+    void reset();
+}
@@ -1,8 +1,8 @@
 package mindescape.view.api;
-import java.util.Map;
-
 import javax.swing.JPanel;
 
+import mindescape.model.saveload.api.Thumbnail;
+import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
 
 
@@ -13,26 +13,30 @@ import mindescape.model.world.rooms.api.Room;
 public interface WorldView {
 
     /**
-     * Updates the view. 
+     * Updates the view with the state reached at the end of a simulation tick.
      * @param currentRoom to be displayed
+     * @param currentPlayer the player, in the room displayed
      */
-    void draw(Room currentRoom);
+    void update(Room currentRoom, Player currentPlayer);
 
     /**
-     * Returns the panel of the view.
-     * @return {@code JPanel} of the view.
+     * Renders a frame of the view.
+     * @param interpolation how far, as a fraction in [0, 1), the frame lies between the
+     *     previous and the last simulation tick; used to smooth the movement on screen
      */
-    JPanel getPanel();
+    void draw(double interpolation);
 
     /**
-     * Return a map of which keys are currently being pressed.
-     * @return a Map<Integer, Boolean> containing if a key is pressed or not.
+     * Draws a small picture of the room last displayed, e.g. to be shown along with a save.
+     * It has to be called by the thread updating the view.
+     * @return the {@code Thumbnail} of the room.
      */
-    Map<Integer, Boolean> getKeyState();
+    Thumbnail getThumbnail();
 
     /**
-     * Clears the keyboard input map.
+     * Returns the panel of the view.
+     * @return {@code JPanel} of the view.
      */
-    void clearInput();
+    JPanel getPanel();
 
 }
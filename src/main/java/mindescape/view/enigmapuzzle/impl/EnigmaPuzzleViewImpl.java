@@ -1,16 +1,15 @@
 package mindescape.view.enigmapuzzle.impl;
 
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 import mindescape.controller.enigmapuzzle.api.EnigmaPuzzleController;
 import mindescape.view.enigmapuzzle.api.EnigmaPuzzleView;
 import mindescape.view.utils.ImageButton;
+import mindescape.view.utils.ImageResources;
 
 import java.awt.GridLayout;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +19,10 @@ import java.util.List;
  */
 public final class EnigmaPuzzleViewImpl extends JPanel implements EnigmaPuzzleView {
 
+    /**
+     * The resource of the image of the puzzle.
+     */
+    public static final String IMAGE = "puzzle/puzzle.jpg";
     private static final long serialVersionUID = 1L;
     private final List<ImageButton> buttons = new ArrayList<>();
     private final transient BufferedImage image;
@@ -37,13 +40,7 @@ public final class EnigmaPuzzleViewImpl extends JPanel implements EnigmaPuzzleVi
     public EnigmaPuzzleViewImpl(final int cols, final int rows, final EnigmaPuzzleController controller) {
         this.rows = rows;
         this.cols = cols;
-        final BufferedImage img;
-        try {
-            img = ImageIO.read(getClass().getClassLoader().getResource("puzzle/puzzle.jpg"));
-        } catch (final IOException e) {
-            throw new IllegalStateException("Image not found", e);
-        }
-        this.image = img;
+        this.image = ImageResources.read(IMAGE);
         SwingUtilities.invokeLater(() -> setLayout(new GridLayout(rows, cols)));
         for (int i = 0; i < rows * cols; i++) {
             final ImageButton button = new ImageButton();
@@ -72,7 +72,11 @@ public final class MainViewImpl implements MainView {
 
                     if (option == JOptionPane.YES_OPTION) {
                         try {
-                            mainController.save();
+                            mainController.save().exceptionally(error -> {
+                                SwingUtilities.invokeLater(() ->
+                                    JOptionPane.showMessageDialog(frame, "An error occurred while saving the game."));
+                                return null;
+                            });
                         } catch (IllegalStateException exception) {
                             JOptionPane.showMessageDialog(frame, "An error occurred while saving the game.");
                         }
@@ -1,25 +1,35 @@
 package mindescape.view.saveload;
 
 import mindescape.controller.saveload.api.SavesController;
+import mindescape.model.saveload.api.SaveEntry;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.Thumbnail;
+import mindescape.model.saveload.impl.CheckpointSchedulerImpl;
 import mindescape.view.api.View;
 import mindescape.view.utils.ViewUtils;
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Image;
 import java.awt.BorderLayout;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
-import java.io.File;
+import java.awt.image.BufferedImage;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import javax.swing.BorderFactory;
 import javax.swing.DefaultListModel;
+import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingConstants;
 import java.util.Date;
 
 /**
@@ -36,6 +46,9 @@ public final class SavesView extends JPanel implements View {
     private static final int BUTTON_PANEL_PADDING = 10;
     private static final String NO_SAVES_MESSAGE = "No save files found.";
     private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm";
+    private static final String PLAY_TIME_FORMAT = " (%d:%02d played)";
+    private static final String PREVIEW_FORMAT = "<html>%s<br>Items: %d<br>Enigmas solved: %d</html>";
+    private static final int THUMBNAIL_SCALE = 3;
 
     private static final int MIN_FONT_SIZE = 12;
     private static final int MAX_FONT_SIZE = 30;
@@ -43,9 +56,11 @@ public final class SavesView extends JPanel implements View {
 
     private final transient SavesController controller;
     private final DefaultListModel<String> saveListModel;
+    private final transient List<SaveEntry> saves = new ArrayList<>();
     private final JList<String> saveList;
     private final JButton loadButton;
     private final JButton menuButton;
+    private final JLabel previewLabel;
 
     /**
      * Constructs the SavesView with a given controller.
@@ -60,6 +75,22 @@ public final class SavesView extends JPanel implements View {
         this.saveListModel = new DefaultListModel<>();
         this.saveList = new JList<>(saveListModel);
         this.styleSaveList();
+        this.saveList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                this.showPreview(saveList.getSelectedIndex());
+            }
+        });
+
+        this.previewLabel = new JLabel();
+        this.previewLabel.setForeground(LIST_FOREGROUND_COLOR);
+        this.previewLabel.setHorizontalTextPosition(SwingConstants.CENTER);
+        this.previewLabel.setVerticalTextPosition(SwingConstants.BOTTOM);
+        this.previewLabel.setBorder(BorderFactory.createEmptyBorder(
+            BUTTON_PANEL_PADDING,
+            BUTTON_PANEL_PADDING,
+            BUTTON_PANEL_PADDING,
+            BUTTON_PANEL_PADDING
+        ));
 
         final JScrollPane scrollPane = new JScrollPane(saveList);
         scrollPane.setBorder(BorderFactory.createLineBorder(BORDER_COLOR, BORDER_THICKNESS));
@@ -81,6 +112,7 @@ public final class SavesView extends JPanel implements View {
         buttonPanel.add(menuButton, BorderLayout.WEST);
         buttonPanel.add(loadButton, BorderLayout.EAST);
         this.add(scrollPane, BorderLayout.CENTER);
+        this.add(previewLabel, BorderLayout.EAST);
         this.add(buttonPanel, BorderLayout.SOUTH);
         this.addComponentListener(new ComponentAdapter() {
             @Override
@@ -98,11 +130,14 @@ public final class SavesView extends JPanel implements View {
     }
 
     /**
-     * Updates the list of save files displayed in the view.
+     * Updates the list of saves displayed in the view. The saves picked by the player are the
+     * ones displayed, whatever changes to the saves happen in the meantime.
      *
-     * @param saveFiles the list of save files to display
+     * @param saveFiles the list of saves to display
      */
-    public void updateSaveFiles(final List<File> saveFiles) {
+    public void updateSaveFiles(final List<SaveEntry> saveFiles) {
+        saves.clear();
+        saves.addAll(saveFiles);
         saveListModel.clear();
         final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT, Locale.getDefault());
 
@@ -110,19 +145,46 @@ public final class SavesView extends JPanel implements View {
             saveListModel.addElement(NO_SAVES_MESSAGE);
             loadButton.setEnabled(false);
         } else {
-            for (final File file : saveFiles) {
-                final String fileName = file.getName().replace(".sav", "");
-                final String lastModified = dateFormat.format(new Date(file.lastModified()));
-                saveListModel.addElement(fileName + " - " + lastModified);
+            for (final SaveEntry save : saveFiles) {
+                final String fileName = save.name()
+                    .replace(CheckpointSchedulerImpl.CHECKPOINT_SUFFIX, " - checkpoint ");
+                final String lastModified = dateFormat.format(new Date(save.timestamp()));
+                final StringBuilder label = new StringBuilder(fileName).append(" - ").append(lastModified);
+                if (!save.room().isEmpty()) {
+                    label.append(" - ").append(save.room())
+                        .append(String.format(Locale.getDefault(), PLAY_TIME_FORMAT,
+                            save.playTime().toHours(), save.playTime().toMinutesPart()));
+                }
+                saveListModel.addElement(label.toString());
             }
             loadButton.setEnabled(true);
         }
     }
 
+    /**
+     * Shows the preview of the selected save, read from the head of its file.
+     */
+    private void showPreview(final int index) {
+        final Optional<SavePreview> preview = index >= 0 && index < saves.size()
+            ? controller.getPreview(saves.get(index))
+            : Optional.empty();
+        previewLabel.setIcon(preview.flatMap(SavePreview::getThumbnail).map(SavesView::toIcon).orElse(null));
+        previewLabel.setText(preview.map(p -> String.format(Locale.getDefault(), PREVIEW_FORMAT,
+            p.room(), p.inventoryCount(), p.solvedCount())).orElse(null));
+    }
+
+    private static ImageIcon toIcon(final Thumbnail thumbnail) {
+        final BufferedImage image = new BufferedImage(thumbnail.width(), thumbnail.height(),
+            BufferedImage.TYPE_USHORT_565_RGB);
+        image.getRaster().setDataElements(0, 0, thumbnail.width(), thumbnail.height(), thumbnail.pixels());
+        return new ImageIcon(image.getScaledInstance(thumbnail.width() * THUMBNAIL_SCALE,
+            thumbnail.height() * THUMBNAIL_SCALE, Image.SCALE_FAST));
+    }
+
     private void loadSelectedSave() {
         final int selectedIndex = saveList.getSelectedIndex();
-        if (!NO_SAVES_MESSAGE.equals(saveListModel.get(selectedIndex))) {
-            controller.loadSaveFile(selectedIndex);
+        if (selectedIndex >= 0 && selectedIndex < saves.size()) {
+            controller.loadSaveFile(saves.get(selectedIndex));
         } else {
             JOptionPane.showMessageDialog(this, "Invalid selection.", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -135,6 +197,7 @@ public final class SavesView extends JPanel implements View {
         final Font updatedFont = new Font("Arial", Font.BOLD, calculatedFontSize);
 
         saveList.setFont(updatedFont);
+        previewLabel.setFont(updatedFont);
         loadButton.setFont(updatedFont);
         menuButton.setFont(updatedFont);
     }
@@ -0,0 +1,49 @@
+package mindescape.view.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Decodes the images of the resources once, so that they can be decoded in the background
+ * before the views using them are built. The images returned are shared and must not be changed.
+ */
+public final class ImageResources {
+
+    private static final Map<String, BufferedImage> IMAGES = new ConcurrentHashMap<>();
+
+    private ImageResources() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the image of a resource, decoding it the first time.
+     *
+     * @param resource the path of the resource, relative to the root of the class path
+     * @return the image
+     * @throws IllegalStateException if the resource cannot be found or decoded
+     */
+    public static BufferedImage read(final String resource) {
+        return IMAGES.computeIfAbsent(resource, ImageResources::decode);
+    }
+
+    private static BufferedImage decode(final String resource) {
+        final URL url = ImageResources.class.getClassLoader().getResource(resource);
+        if (url == null) {
+            throw new IllegalStateException("Image not found: " + resource);
+        }
+        try {
+            final BufferedImage image = ImageIO.read(url);
+            if (image == null) {
+                throw new IllegalStateException("Not an image: " + resource);
+            }
+            return image;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read " + resource, e);
+        }
+    }
+}
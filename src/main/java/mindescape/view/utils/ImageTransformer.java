@@ -1,6 +1,8 @@
 package mindescape.view.utils;
 
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
@@ -26,6 +28,28 @@ public final class ImageTransformer {
         return scaledImage;
     }
 
+    /**
+     * Resizes an image using a scaling factor, into an image compatible with the given
+     * configuration so that it can be drawn on screen without conversions.
+     * @param image the image to adapt.
+     * @param scaling the scaling factor.
+     * @param configuration the configuration of the device the image will be drawn on,
+     *     if null the image is created as in {@link #adapt(BufferedImage, double)}.
+     * @return the scaled BufferedImage.
+     */
+    public BufferedImage adapt(final BufferedImage image, final double scaling, final GraphicsConfiguration configuration) {
+        if (configuration == null) {
+            return adapt(image, scaling);
+        }
+        final int newWidth = (int) (image.getWidth() * scaling);
+        final int newHeight = (int) (image.getHeight() * scaling);
+        final BufferedImage scaledImage = configuration.createCompatibleImage(newWidth, newHeight, Transparency.TRANSLUCENT);
+        final Graphics2D g2d = scaledImage.createGraphics();
+        g2d.drawImage(image, AffineTransform.getScaleInstance(scaling, scaling), null);
+        g2d.dispose();
+        return scaledImage;
+    }
+
     /**
      * Rotates an image.
      * @param image the image to to rotate.
@@ -0,0 +1,51 @@
+package mindescape.view.world;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import mindescape.utils.metrics.GameMetrics;
+import mindescape.utils.metrics.LatencyRecorder;
+
+/**
+ * Paints the instrumentation of the game in the top left corner of the world, one line per latency
+ * recorder followed by the counters.
+ */
+final class DebugOverlay {
+
+    private static final int MARGIN = 6;
+    private static final int LINE_HEIGHT = 14;
+    private static final int WIDTH = 330;
+    private static final int FONT_SIZE = 12;
+    private static final int BACKGROUND_ALPHA = 170;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, FONT_SIZE);
+    private static final Color BACKGROUND = new Color(0, 0, 0, BACKGROUND_ALPHA);
+
+    /**
+     * The area the overlay is painted in, to be repainted on every frame while it is shown.
+     */
+    static final Rectangle BOUNDS = new Rectangle(0, 0, WIDTH,
+        (GameMetrics.getRecorders().size() + 1) * LINE_HEIGHT + 2 * MARGIN);
+
+    private DebugOverlay() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Paints the overlay.
+     *
+     * @param g the graphics of the panel
+     */
+    static void paint(final Graphics g) {
+        g.setColor(BACKGROUND);
+        g.fillRect(BOUNDS.x, BOUNDS.y, BOUNDS.width, BOUNDS.height);
+        g.setColor(Color.WHITE);
+        g.setFont(FONT);
+        int y = MARGIN + LINE_HEIGHT - 2;
+        for (final LatencyRecorder recorder : GameMetrics.getRecorders()) {
+            g.drawString(recorder.toString(), MARGIN, y);
+            y += LINE_HEIGHT;
+        }
+        g.drawString(GameMetrics.countersSummary(), MARGIN, y);
+    }
+}
@@ -2,14 +2,14 @@ package mindescape.view.world;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.event.KeyEvent;
+import java.awt.Rectangle;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import javax.imageio.ImageIO;
 import javax.swing.Timer;
 
-import mindescape.controller.core.api.KeyMapper;
+import mindescape.controller.core.api.InputBuffer;
 import mindescape.controller.core.api.UserInput;
 import mindescape.model.world.core.api.Point2D;
 import java.awt.image.BufferedImage;
@@ -37,9 +37,10 @@ public final class PlayerView {
     private final Map<UserInput, List<BufferedImage>> spriteMapper = new EnumMap<>(UserInput.class);
     private BufferedImage currentSprite;
     private final Timer timer;
-    private int x;
-    private int y;
-    private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
+    private double previousX;
+    private double previousY;
+    private double x;
+    private double y;
 
     /**
      * Constructor for PlayerView, initializing position and loading sprites.
@@ -48,10 +49,7 @@ public final class PlayerView {
      */
     public PlayerView(final Point2D pos) {
         this.spriteIndex = 0;
-        this.x = (int) pos.x();
-        this.y = (int) pos.y();
-        keyMapper.remove(KeyEvent.VK_I);
-        keyMapper.remove(KeyEvent.VK_E);
+        placeAt(pos);
         BufferedImage image;
         try (InputStream is = getClass().getClassLoader().getResourceAsStream("playertiles/player.png")) {
             image = ImageIO.read(is);
@@ -86,13 +84,66 @@ public final class PlayerView {
     }
 
     /**
-     * Updates the player's position.
+     * Updates the player's position, keeping the previous one to interpolate between the two.
      * 
      * @param pos The new position of the player
      */
     public void setPosition(final Point2D pos) {
-        x = (int) pos.x();
-        y = (int) pos.y();
+        setPosition(pos.x(), pos.y());
+    }
+
+    /**
+     * Updates the player's position, keeping the previous one to interpolate between the two.
+     * 
+     * @param newX The new x coordinate of the player
+     * @param newY The new y coordinate of the player
+     */
+    public void setPosition(final double newX, final double newY) {
+        previousX = x;
+        previousY = y;
+        x = newX;
+        y = newY;
+    }
+
+    /**
+     * Places the player at the given position without interpolating from the previous one,
+     * e.g. when the player goes through a door.
+     * 
+     * @param pos The new position of the player
+     */
+    public void placeAt(final Point2D pos) {
+        placeAt(pos.x(), pos.y());
+    }
+
+    /**
+     * Places the player at the given position without interpolating from the previous one,
+     * e.g. when the player goes through a door.
+     * 
+     * @param newX The new x coordinate of the player
+     * @param newY The new y coordinate of the player
+     */
+    public void placeAt(final double newX, final double newY) {
+        x = newX;
+        y = newY;
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Returns the area of the panel the sprite can be drawn on until the next position update,
+     * that is the area spanning both the previous and the current position.
+     * 
+     * @param offset The offset value for rendering
+     * @param scaling The scaling factor
+     * @return the area covered by the sprite, in panel coordinates
+     */
+    public Rectangle getBounds(final int offset, final double scaling) {
+        final int size = (int) (scaling * SPRITE_SIZE);
+        final int minX = (int) (Math.min(previousX, x) * scaling) + offset;
+        final int minY = (int) (Math.min(previousY, y) * scaling);
+        final int maxX = (int) (Math.max(previousX, x) * scaling) + offset + size;
+        final int maxY = (int) (Math.max(previousY, y) * scaling) + size;
+        return new Rectangle(minX - 1, minY - 1, maxX - minX + 2, maxY - minY + 2);
     }
 
     /**
@@ -101,21 +152,25 @@ public final class PlayerView {
      * @param g The graphics context
      * @param offset The offset value for rendering
      * @param scaling The scaling factor
-     * @param keys The map of pressed keys
+     * @param input The buffer of the user inputs, telling which way the player is moving
+     * @param interpolation The fraction of the way between the previous and the current position
      */
-    public void draw(final Graphics g, final int offset, final double scaling, final Map<Integer, Boolean> keys) {
-        setCurrentSprite(keys);
-        g.drawImage(currentSprite, (int) ((x * scaling) + offset),
-            (int) (y * scaling),
+    public void draw(final Graphics g, final int offset, final double scaling,
+        final InputBuffer input, final double interpolation) {
+        setCurrentSprite(input);
+        final double drawX = previousX + (x - previousX) * interpolation;
+        final double drawY = previousY + (y - previousY) * interpolation;
+        g.drawImage(currentSprite, (int) ((drawX * scaling) + offset),
+            (int) (drawY * scaling),
             (int) (scaling * SPRITE_SIZE),
             (int) (scaling * SPRITE_SIZE),
             null);
     }
 
-    private void setCurrentSprite(final Map<Integer, Boolean> keys) {
-        for (final Map.Entry<Integer, Boolean> entry : keys.entrySet()) {
-            if (keyMapper.get(entry.getKey()) != null && entry.getValue()) {
-                currentSprite = spriteMapper.get(keyMapper.get(entry.getKey())).get(spriteIndex);
+    private void setCurrentSprite(final InputBuffer input) {
+        for (final Map.Entry<UserInput, List<BufferedImage>> entry : spriteMapper.entrySet()) {
+            if (input.isHeld(entry.getKey())) {
+                currentSprite = entry.getValue().get(spriteIndex);
             }
         }
     }
@@ -0,0 +1,169 @@
+package mindescape.view.world;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.tiledreader.TiledMap;
+import org.tiledreader.TiledObject;
+import org.tiledreader.TiledObjectLayer;
+import org.tiledreader.TiledTileLayer;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.TiledMapRepository;
+import mindescape.utils.metrics.GameMetrics;
+
+/**
+ * The images a room is drawn with: the tile layers of the map, which never change, the tile objects
+ * currently in the room and the composition of the two.
+ * <p>
+ * When an object is added to, removed from or changed in the room only the area covered by its
+ * tile objects is drawn again, so the map is parsed and its layers drawn just once per room.
+ * </p>
+ */
+final class RoomLayers {
+
+    private final TileAtlas atlas;
+    private final int tileSize;
+    private final BufferedImage background;
+    private final BufferedImage objects;
+    private final BufferedImage image;
+    private final List<TiledObject> tileObjects;
+    private final Map<String, List<TiledObject>> tileObjectsByName = new HashMap<>();
+    private final Multiset<String> present = HashMultiset.create();
+
+    /**
+     * Draws the layers of a room.
+     *
+     * @param room the room
+     * @param atlas the atlas the tiles are taken from
+     * @param tileSize the size in pixels of the side of a tile
+     */
+    RoomLayers(final Room room, final TileAtlas atlas, final int tileSize) {
+        this.atlas = atlas;
+        this.tileSize = tileSize;
+        final TiledMap map = TiledMapRepository.getMap(room.getSource());
+        final int width = (int) room.getDimensions().width();
+        final int height = (int) room.getDimensions().height();
+        this.background = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
+        this.objects = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
+        this.tileObjects = getTileObjects(map);
+        tileObjects.forEach(obj -> tileObjectsByName.computeIfAbsent(obj.getName(), k -> new ArrayList<>()).add(obj));
+        room.getGameObjects().forEach(obj -> present.add(obj.getName()));
+        final Graphics2D g = background.createGraphics();
+        getTileLayers(map).forEach(layer -> drawLayer(layer, g, map));
+        g.dispose();
+        redraw(new Rectangle(width, height));
+    }
+
+    /**
+     * Returns the image of the room, background and objects together.
+     *
+     * @return the image of the room
+     */
+    BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Draws again the area of an object added to the room.
+     *
+     * @param gameObject the object added
+     * @return the area drawn again, null if the object is not drawn
+     */
+    Rectangle objectAdded(final GameObject gameObject) {
+        present.add(gameObject.getName());
+        return objectChanged(gameObject);
+    }
+
+    /**
+     * Draws again the area of an object removed from the room.
+     *
+     * @param gameObject the object removed
+     * @return the area drawn again, null if the object was not drawn
+     */
+    Rectangle objectRemoved(final GameObject gameObject) {
+        present.remove(gameObject.getName());
+        return objectChanged(gameObject);
+    }
+
+    /**
+     * Draws again the area of an object of the room.
+     *
+     * @param gameObject the object changed
+     * @return the area drawn again, null if the object is not drawn
+     */
+    Rectangle objectChanged(final GameObject gameObject) {
+        final List<TiledObject> drawn = tileObjectsByName.get(gameObject.getName());
+        if (drawn == null) {
+            return null;
+        }
+        final Rectangle area = drawn.stream()
+            .map(this::boundsOf)
+            .reduce(Rectangle::union)
+            .get();
+        redraw(area);
+        return area;
+    }
+
+    private void redraw(final Rectangle area) {
+        GameMetrics.ROOM_IMAGE_REBUILDS.increment();
+        final Graphics2D o = objects.createGraphics();
+        o.setComposite(AlphaComposite.Clear);
+        o.fill(area);
+        o.setComposite(AlphaComposite.SrcOver);
+        o.setClip(area);
+        tileObjects.stream()
+            .filter(obj -> present.contains(obj.getName()) && area.intersects(boundsOf(obj)))
+            .forEach(obj -> o.drawImage(atlas.getTile(obj.getTile(), obj.getTileXFlip(), obj.getTileDFlip()),
+                (int) obj.getX(), (int) obj.getY(), null));
+        o.dispose();
+        final Graphics2D g = image.createGraphics();
+        g.setClip(area);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(background, 0, 0, null);
+        g.setComposite(AlphaComposite.SrcOver);
+        g.drawImage(objects, 0, 0, null);
+        g.dispose();
+    }
+
+    private Rectangle boundsOf(final TiledObject obj) {
+        return new Rectangle((int) obj.getX(), (int) obj.getY(), tileSize, tileSize);
+    }
+
+    private void drawLayer(final TiledTileLayer layer, final Graphics2D g, final TiledMap map) {
+        for (int x = 0; x < map.getWidth(); x++) {
+            for (int y = 0; y < map.getHeight(); y++) {
+                if (layer.getTile(x, y) != null) {
+                    g.drawImage(atlas.getTile(layer.getTile(x, y),
+                        layer.getTileHorizontalFlip(x, y),
+                        layer.getTileDiagonalFlip(x, y)
+                    ), x * tileSize, y * tileSize, null);
+                }
+            }
+        }
+    }
+
+    private List<TiledTileLayer> getTileLayers(final TiledMap map) {
+        return map.getNonGroupLayers().stream()
+            .filter(layer -> layer instanceof TiledTileLayer)
+            .map(layer -> (TiledTileLayer) layer)
+            .toList();
+    }
+
+    private List<TiledObject> getTileObjects(final TiledMap map) {
+        return map.getNonGroupLayers().stream()
+            .filter(layer -> "Objects".equals(layer.getName()))
+            .map(layer -> (TiledObjectLayer) layer)
+            .findFirst()
+            .map(layer -> layer.getObjects().stream().filter(obj -> obj.getTile() != null).toList())
+            .orElse(List.of());
+    }
+}
@@ -0,0 +1,82 @@
+package mindescape.view.world;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import mindescape.utils.metrics.GameMetrics;
+import mindescape.view.utils.ImageTransformer;
+
+/**
+ * Cache of the room images scaled to the size of the panel.
+ * <p>
+ * The scaled image of a room is kept until the scaling changes, i.e. the panel is resized,
+ * or the image of the room is replaced, so repainting an unchanged room does not allocate
+ * and scale a new image every frame.
+ * </p>
+ */
+public final class RoomRenderCache {
+
+    private final ImageTransformer transformer = new ImageTransformer();
+    private final Map<String, Entry> images = new HashMap<>();
+    private double scaling;
+
+    /**
+     * Returns the image of the room scaled by the given factor, scaling it only if not cached.
+     *
+     * @param room the name of the room
+     * @param source the image of the room at its original size
+     * @param scaling the scaling factor
+     * @param configuration the configuration of the device the image will be drawn on, may be null
+     * @return the scaled image
+     */
+    public synchronized BufferedImage get(final String room, final BufferedImage source,
+        final double scaling, final GraphicsConfiguration configuration) {
+        if (this.scaling != scaling) {
+            images.clear();
+            this.scaling = scaling;
+        }
+        final Entry cached = images.get(room);
+        if (cached != null && cached.source() == source) {
+            return cached.scaled();
+        }
+        GameMetrics.SCALED_IMAGE_REBUILDS.increment();
+        final BufferedImage scaled = transformer.adapt(source, scaling, configuration);
+        images.put(room, new Entry(source, scaled));
+        return scaled;
+    }
+
+    /**
+     * Drops the scaled image of a room, e.g. because its content changed.
+     *
+     * @param room the name of the room
+     */
+    public synchronized void invalidate(final String room) {
+        images.remove(room);
+    }
+
+    /**
+     * Changes the image of a room in place and drops its scaled image, without letting the
+     * image be scaled while it is being changed.
+     *
+     * @param room the name of the room
+     * @param change the change to the image of the room
+     */
+    public synchronized void edit(final String room, final Runnable change) {
+        change.run();
+        images.remove(room);
+    }
+
+    /**
+     * Drops every scaled image, e.g. because the panel has been resized.
+     */
+    public synchronized void clear() {
+        images.clear();
+    }
+
+    /**
+     * A scaled image along with the image it was scaled from.
+     */
+    private record Entry(BufferedImage source, BufferedImage scaled) {
+    }
+}
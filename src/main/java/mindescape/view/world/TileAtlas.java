@@ -0,0 +1,148 @@
+package mindescape.view.world;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.tiledreader.TiledTile;
+import mindescape.utils.metrics.GameMetrics;
+import mindescape.view.utils.ImageTransformer;
+
+/**
+ * Texture atlas of the tiles used to draw the rooms.
+ * <p>
+ * Every tileset image is decoded once and converted to an image compatible with the screen,
+ * then tiles are handed out as sub-regions of it. The flipped and rotated variants of a tile
+ * are built on first use and cached along with the flags they were built with.
+ * </p>
+ */
+public final class TileAtlas {
+
+    private static final double ROTATING_ANGLE = -90;
+    private final int tileSize;
+    private final ImageTransformer transformer = new ImageTransformer();
+    private final Map<String, BufferedImage> sheets = new HashMap<>();
+    private final Map<TileKey, BufferedImage> tiles = new HashMap<>();
+
+    /**
+     * Constructs an empty atlas.
+     *
+     * @param tileSize the size in pixels of the side of a tile
+     */
+    public TileAtlas(final int tileSize) {
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Returns the image of a tile.
+     *
+     * @param tile the tile
+     * @param horizontalFlip whether the tile is flipped horizontally
+     * @param diagonalFlip whether the tile is flipped diagonally
+     * @return the image of the tile, with the flips applied
+     */
+    public BufferedImage getTile(final TiledTile tile, final boolean horizontalFlip, final boolean diagonalFlip) {
+        final String sheet = Paths.get(tile.getTileset().getImage().getSource()).getFileName().toString();
+        final TileKey key = new TileKey(sheet, tile.getID(), horizontalFlip, diagonalFlip);
+        BufferedImage image = tiles.get(key);
+        if (image == null) {
+            GameMetrics.TILE_CACHE_MISSES.increment();
+            image = horizontalFlip || diagonalFlip
+                ? transform(getTile(tile, false, false), horizontalFlip, diagonalFlip)
+                : cut(getSheet(sheet), tile);
+            tiles.put(key, image);
+        } else {
+            GameMetrics.TILE_CACHE_HITS.increment();
+        }
+        return image;
+    }
+
+    /**
+     * Returns the number of tile images cached by the atlas.
+     *
+     * @return the number of cached tiles
+     */
+    public int size() {
+        return tiles.size();
+    }
+
+    private BufferedImage cut(final BufferedImage sheet, final TiledTile tile) {
+        if (sheet == null) {
+            return missingTile();
+        }
+        final int columns = tile.getTileset().getWidth();
+        return sheet.getSubimage(
+            tile.getID() % columns * tileSize,
+            tile.getID() / columns * tileSize,
+            tileSize,
+            tileSize
+        );
+    }
+
+    private BufferedImage getSheet(final String fileName) {
+        if (!sheets.containsKey(fileName)) {
+            sheets.put(fileName, load(fileName));
+        }
+        return sheets.get(fileName);
+    }
+
+    private BufferedImage load(final String fileName) {
+        try (InputStream is = TileAtlas.class.getClassLoader().getResourceAsStream("tiles/" + fileName)) {
+            if (is == null) {
+                return null;
+            }
+            final BufferedImage image = ImageIO.read(is);
+            return image == null ? null : toCompatible(image);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private BufferedImage toCompatible(final BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        final BufferedImage compatible = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration()
+            .createCompatibleImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+        final Graphics2D g = compatible.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+
+    private BufferedImage transform(final BufferedImage img, final boolean horizontal, final boolean diagonal) {
+        BufferedImage result = img;
+        if (diagonal) {
+            result = transformer.rotateImage(result, ROTATING_ANGLE);
+        }
+        if (horizontal) {
+            result = transformer.flipImageHorizontally(result);
+        }
+        return result;
+    }
+
+    private BufferedImage missingTile() {
+        final BufferedImage image = new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_4BYTE_ABGR);
+        final Graphics g = image.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, tileSize, tileSize);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Identifies a tile of a tileset together with the flips applied to it.
+     */
+    private record TileKey(String sheet, int id, boolean horizontalFlip, boolean diagonalFlip) {
+    }
+}
@@ -1,52 +1,92 @@
 package mindescape.view.world;
 
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Paths;
-import java.util.Collections;
+import java.awt.image.DataBufferUShort;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 import javax.swing.JPanel;
-import org.tiledreader.FileSystemTiledReader;
-import org.tiledreader.TiledMap;
-import org.tiledreader.TiledObject;
-import org.tiledreader.TiledObjectLayer;
-import org.tiledreader.TiledTile;
-import org.tiledreader.TiledTileLayer;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.InputBuffer;
 import mindescape.controller.core.api.KeyMapper;
 import mindescape.controller.core.api.UserInput;
+import mindescape.model.saveload.api.Thumbnail;
 import mindescape.model.world.core.api.Dimensions;
-import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.api.RoomListener;
+import mindescape.utils.jfr.RoomImageEvent;
+import mindescape.utils.metrics.GameMetrics;
 import mindescape.view.api.WorldView;
-import mindescape.view.utils.ImageTransformer;
 import mindescape.view.utils.ViewUtils;
 
 /**
  * Implementation of the WorldView.
+ * <p>
+ * Frames are rendered incrementally: only the areas that changed since the previous frame,
+ * i.e. the area covered by the player and the objects added to or removed from the room,
+ * are repainted. The whole panel is repainted only when the room changes.
+ * </p>
+ * <p>
+ * Pressing {@code F3} toggles an overlay showing the instrumentation of the game, see {@link GameMetrics}.
+ * </p>
+ * <p>
+ * The view listens to the changes of the rooms it shows, which are queued as they happen and
+ * applied to the {@link RoomLayers} of the room on the next update.
+ * </p>
  */
 public final class WorldViewImpl implements WorldView, KeyListener {
 
-    private static final double ROTATING_ANGLE = -90;
     private static final int TILE_DIMENSION = (int) Dimensions.TILE.width();
-    private final transient Map<TiledTile, BufferedImage> tilesCache = new HashMap<>();
+    private static final int THUMBNAIL_WIDTH = 64;
+    private static final int THUMBNAIL_HEIGHT = 48;
+    private static final int DEBUG_KEY = KeyEvent.VK_F3;
+    private final transient TileAtlas atlas = new TileAtlas(TILE_DIMENSION);
     private BufferedImage roomImage;
     private String roomName;
     private final transient PlayerView player;
     private double roomHeight;
-    private int objNum;
-    private final Map<Integer, Boolean> keyState = new HashMap<>();
-    private final transient ImageTransformer transformer = new ImageTransformer();
+    private volatile double interpolation;
+    private volatile boolean debugOverlay;
+    private boolean fullRepaint = true;
+    private Rectangle lastPlayerArea;
+    private final transient Map<String, RoomLayers> layers = new HashMap<>();
+    private final transient Queue<RoomChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final transient RoomListener roomListener = new RoomListener() {
+        @Override
+        public void objectAdded(final Room room, final GameObject gameObject) {
+            pendingChanges.add(new RoomChange(room.getName(), gameObject, RoomLayers::objectAdded));
+        }
+
+        @Override
+        public void objectRemoved(final Room room, final GameObject gameObject) {
+            pendingChanges.add(new RoomChange(room.getName(), gameObject, RoomLayers::objectRemoved));
+        }
+
+        @Override
+        public void objectChanged(final Room room, final GameObject gameObject) {
+            pendingChanges.add(new RoomChange(room.getName(), gameObject, RoomLayers::objectChanged));
+        }
+    };
+    private final transient List<Rectangle2D> changedAreas = new ArrayList<>();
+    private final transient InputBuffer input;
+    private final transient RoomRenderCache renderCache = new RoomRenderCache();
     private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
     private final JPanel panel;
 
@@ -54,163 +94,172 @@ public final class WorldViewImpl implements WorldView, KeyListener {
      * Constructor for WorldViewImpl.
      *
      * @param currentRoom the current room
+     * @param currentPlayer the player, in the current room
+     * @param input the buffer the keys pressed on the view are published to
      */
-    public WorldViewImpl(final Room currentRoom) {
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The input buffer is shared with the controller on purpose")
+    public WorldViewImpl(final Room currentRoom, final Player currentPlayer, final InputBuffer input) {
+        this.input = input;
         this.panel = new JPanel() {
             @Override
             protected void paintComponent(final Graphics g) {
+                final long start = System.nanoTime();
                 super.paintComponent(g);
                 final double scaling = getScalingFactor();
-                final BufferedImage image = transformer.adapt(roomImage, scaling);
+                if (scaling <= 0) {
+                    return;
+                }
+                final BufferedImage image = renderCache.get(roomName, roomImage, scaling, getGraphicsConfiguration());
                 final int offset = (this.getWidth() - image.getWidth()) / 2;
                 g.drawImage(image, offset, 0, this);
-                player.draw(g, offset, scaling, keyState);
+                player.draw(g, offset, scaling, input, interpolation);
+                if (debugOverlay) {
+                    DebugOverlay.paint(g);
+                }
+                GameMetrics.PAINT.recordSince(start);
             }
         };
         panel.setBackground(ViewUtils.Style.PANEL_COLOR);
+        panel.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(final ComponentEvent e) {
+                renderCache.clear();
+            }
+        });
+        panel.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(final FocusEvent e) {
+                input.releaseAll();
+            }
+        });
         this.roomHeight = currentRoom.getDimensions().height();
         this.roomName = currentRoom.getName();
-        updateRoomImage(currentRoom);
-        player = new PlayerView(getPlayer(currentRoom).getPosition());
-        keyMapper.forEach((key, value) -> keyState.put(key, false));
-        objNum = currentRoom.getGameObjects().size();
+        this.roomImage = getLayers(currentRoom).getImage();
+        player = new PlayerView(currentPlayer.getPosition());
         this.panel.setFocusable(true);
         this.panel.requestFocusInWindow();
         this.panel.addKeyListener(this);
     }
 
     @Override
-    public void draw(final Room currentRoom) {
-        if (!roomName.equals(currentRoom.getName()) || objNum != currentRoom.getGameObjects().size()) {
-            objNum = currentRoom.getGameObjects().size();
-            updateRoomImage(currentRoom);
+    public void update(final Room currentRoom, final Player currentPlayer) {
+        final boolean roomChanged = !roomName.equals(currentRoom.getName());
+        applyChanges();
+        if (roomChanged) {
+            fullRepaint = true;
+            final RoomImageEvent event = new RoomImageEvent();
+            event.begin();
+            final boolean drawn = !layers.containsKey(currentRoom.getName());
+            roomImage = getLayers(currentRoom).getImage();
+            event.commit(currentRoom.getName(), drawn, currentRoom.getGameObjects().size(),
+                (long) roomImage.getWidth() * roomImage.getHeight() * roomImage.getColorModel().getPixelSize() / Byte.SIZE);
             roomHeight = currentRoom.getDimensions().height();
             roomName = currentRoom.getName();
+            player.placeAt(currentPlayer.getX(), currentPlayer.getY());
+        } else {
+            player.setPosition(currentPlayer.getX(), currentPlayer.getY());
         }
-        player.setPosition(getPlayer(currentRoom).getPosition());
-        this.panel.repaint();
     }
 
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP",
-        justification = "it is not possible to create a copy of this, however nothing is changed by caller")
     @Override
-    public JPanel getPanel() {
-        return this.panel;
-    }
-
-    private void drawLayer(final TiledTileLayer layer, final Graphics g, final TiledMap map) {
-        for (int x = 0; x < map.getWidth(); x++) {
-            for (int y = 0; y < map.getHeight(); y++) {
-                final TiledTile tile = layer.getTile(x, y);
-                if (tile != null) {
-                    BufferedImage img = tilesCache.get(tile);
-                    if (img == null) {
-                        img = getTileImage(tile);
-                        img = applyTransformations(img,
-                            layer.getTileHorizontalFlip(x, y),
-                            layer.getTileDiagonalFlip(x, y)
-                        );
-                        tilesCache.put(tile, img);
-                    }
-                    g.drawImage(img, x * TILE_DIMENSION, y * TILE_DIMENSION, this.panel);
-                }
-            }
+    public void draw(final double interpolation) {
+        final long start = System.nanoTime();
+        this.interpolation = interpolation;
+        final double scaling = getScalingFactor();
+        if (fullRepaint || scaling <= 0) {
+            fullRepaint = false;
+            changedAreas.clear();
+            lastPlayerArea = null;
+            this.panel.repaint();
+            GameMetrics.DRAW.recordSince(start);
+            return;
         }
-    }
-
-    private List<TiledTileLayer> getTileLayers(final TiledMap map) {
-        return map.getNonGroupLayers().stream()
-            .filter(layer -> layer instanceof TiledTileLayer)
-            .map(layer -> (TiledTileLayer) layer)
-            .toList();
-    }
-
-    private BufferedImage getTileImage(final TiledTile tile) {
-        try {
-            final String path = tile.getTileset().getImage().getSource();
-            final String fileName = Paths.get(path).getFileName().toString();
-            final InputStream is = WorldViewImpl.class.getClassLoader().getResourceAsStream("tiles/" + fileName);
-            final BufferedImage image = ImageIO.read(is);
-            final Point2D pos = getPositionFromId(tile, tile.getTileset().getWidth());
-            return image.getSubimage(
-                (int) pos.x() * TILE_DIMENSION,
-                (int) pos.y() * TILE_DIMENSION,
-                TILE_DIMENSION,
-                TILE_DIMENSION
+        final int offset = (this.panel.getWidth() - (int) (roomImage.getWidth() * scaling)) / 2;
+        for (final Rectangle2D area : changedAreas) {
+            this.panel.repaint(
+                (int) (area.getX() * scaling) + offset - 1,
+                (int) (area.getY() * scaling) - 1,
+                (int) Math.ceil(area.getWidth() * scaling) + 2,
+                (int) Math.ceil(area.getHeight() * scaling) + 2
             );
-        } catch (IOException e) {
-            final BufferedImage image = new BufferedImage(
-                TILE_DIMENSION,
-                TILE_DIMENSION,
-                BufferedImage.TYPE_4BYTE_ABGR
-            );
-            final Graphics g = image.createGraphics();
-            g.setColor(Color.BLACK);
-            g.fillRect(0, 0, TILE_DIMENSION, TILE_DIMENSION);
-            g.dispose();
-            return image;
         }
-    }
-
-    private BufferedImage applyTransformations(final BufferedImage img, final boolean horizontal, final boolean diagonal) {
-        BufferedImage result = img;
-        if (diagonal) {
-            result = transformer.rotateImage(result, ROTATING_ANGLE);
+        changedAreas.clear();
+        final Rectangle playerArea = player.getBounds(offset, scaling);
+        if (lastPlayerArea != null) {
+            this.panel.repaint(lastPlayerArea);
         }
-        if (horizontal) {
-            result = transformer.flipImageHorizontally(result);
+        this.panel.repaint(playerArea);
+        lastPlayerArea = playerArea;
+        if (debugOverlay) {
+            this.panel.repaint(DebugOverlay.BOUNDS);
         }
-        return result;
-    }
-
-    private Point2D getPositionFromId(final TiledTile tile, final int mapWidth) {
-        return new Point2D(tile.getID() % mapWidth, (double) tile.getID() / mapWidth);
+        GameMetrics.DRAW.recordSince(start);
     }
 
-    private double getScalingFactor() {
-        final double tileScaledDim = this.panel.getHeight() / (roomHeight / TILE_DIMENSION);
-        return tileScaledDim / TILE_DIMENSION;
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The room, without the player, is scaled to fit {@value #THUMBNAIL_WIDTH}x{@value #THUMBNAIL_HEIGHT} pixels.
+     * </p>
+     */
+    @Override
+    public Thumbnail getThumbnail() {
+        final double scaling = Math.min((double) THUMBNAIL_WIDTH / roomImage.getWidth(),
+            (double) THUMBNAIL_HEIGHT / roomImage.getHeight());
+        final int width = Math.max(1, (int) (roomImage.getWidth() * scaling));
+        final int height = Math.max(1, (int) (roomImage.getHeight() * scaling));
+        final BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_USHORT_565_RGB);
+        final Graphics2D g2d = thumbnail.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(roomImage, 0, 0, width, height, null);
+        g2d.dispose();
+        return new Thumbnail(width, height, ((DataBufferUShort) thumbnail.getRaster().getDataBuffer()).getData());
     }
 
-    private void updateRoomImage(final Room currentRoom) {
-        roomImage = new BufferedImage((int) currentRoom.getDimensions().height(),
-            (int) currentRoom.getDimensions().height(), BufferedImage.TYPE_4BYTE_ABGR);
-        final Graphics2D finalMap = roomImage.createGraphics();
-        final TiledMap map = new FileSystemTiledReader().getMap(currentRoom.getSource());
-        getTileLayers(map).forEach(layer -> drawLayer(layer, finalMap, map));
-        List<TiledObject> tileObjects = getTileObjects(map);
-        tileObjects = tileObjects
-            .stream()
-            .filter(tObj -> {
-                return currentRoom.getGameObjects()
-                    .stream()
-                    .anyMatch(obj -> obj.getName().equals(tObj.getName()));
-            })
-            .toList();
-        tileObjects.forEach(obj -> drawTileObject(obj, finalMap));
-        finalMap.dispose();
+    /**
+     * Applies the queued changes to the layers of their rooms, marking as changed the areas
+     * drawn again in the current room.
+     */
+    private void applyChanges() {
+        RoomChange change = pendingChanges.poll();
+        while (change != null) {
+            final RoomLayers roomLayers = layers.get(change.room());
+            if (roomLayers != null && !(change.gameObject() instanceof Player)) {
+                final RoomChange applied = change;
+                renderCache.edit(applied.room(), () -> {
+                    final Rectangle area = applied.action().apply(roomLayers, applied.gameObject());
+                    if (area != null && applied.room().equals(roomName)) {
+                        changedAreas.add(area);
+                    }
+                });
+            }
+            change = pendingChanges.poll();
+        }
     }
 
-    private void drawTileObject(final TiledObject obj, final Graphics2D g) {
-        final TiledTile tile = obj.getTile();
-        BufferedImage img = getTileImage(tile);
-        img = applyTransformations(img,
-            obj.getTileXFlip(),
-            obj.getTileDFlip());
-        g.drawImage(img, (int) obj.getX(), (int) obj.getY(), null);
+    /**
+     * Returns the layers of a room, drawing them and listening to the room the first time it is shown.
+     *
+     * @param room the room
+     * @return the layers of the room
+     */
+    private RoomLayers getLayers(final Room room) {
+        return layers.computeIfAbsent(room.getName(), name -> {
+            room.addRoomListener(roomListener);
+            return new RoomLayers(room, atlas, TILE_DIMENSION);
+        });
     }
 
-    private Player getPlayer(final Room currentRoom) {
-        return (Player) currentRoom.getGameObjects().stream().filter(x -> x instanceof Player).findAny().get();
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP",
+        justification = "it is not possible to create a copy of this, however nothing is changed by caller")
+    @Override
+    public JPanel getPanel() {
+        return this.panel;
     }
 
-    private List<TiledObject> getTileObjects(final TiledMap map) {
-        final TiledObjectLayer objects =  map.getNonGroupLayers().stream()
-            .filter(layer -> "Objects".equals(layer.getName()))
-            .map(layer -> (TiledObjectLayer) layer)
-            .findFirst()
-            .get();
-        return objects.getObjects().stream().filter(obj -> obj.getTile() != null).toList();
+    private double getScalingFactor() {
+        final double tileScaledDim = this.panel.getHeight() / (roomHeight / TILE_DIMENSION);
+        return tileScaledDim / TILE_DIMENSION;
     }
 
     @Override
@@ -219,27 +268,28 @@ public final class WorldViewImpl implements WorldView, KeyListener {
 
     @Override
     public void keyPressed(final KeyEvent e) {
-        final int pressed = e.getKeyCode();
-        if (keyMapper.containsKey(pressed)) {
-            keyState.put(pressed, true);
+        if (e.getKeyCode() == DEBUG_KEY) {
+            debugOverlay = !debugOverlay;
+            this.panel.repaint(DebugOverlay.BOUNDS);
+            return;
+        }
+        final UserInput pressed = keyMapper.get(e.getKeyCode());
+        if (pressed != null) {
+            input.press(pressed);
         }
     }
 
     @Override
     public void keyReleased(final KeyEvent e) {
-        final int released = e.getKeyCode();
-        if (keyMapper.containsKey(released)) {
-            keyState.put(released, false);
+        final UserInput released = keyMapper.get(e.getKeyCode());
+        if (released != null) {
+            input.release(released);
         }
     }
 
-    @Override
-    public Map<Integer, Boolean> getKeyState() {
-        return Collections.unmodifiableMap(keyState);
-    }
-
-    @Override
-    public void clearInput() {
-        keyState.clear();
+    /**
+     * A change to an object of a room, along with how to apply it to the layers of the room.
+     */
+    private record RoomChange(String room, GameObject gameObject, BiFunction<RoomLayers, GameObject, Rectangle> action) {
     }
 }
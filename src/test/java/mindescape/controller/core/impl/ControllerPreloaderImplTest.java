@@ -0,0 +1,161 @@
+package mindescape.controller.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.controller.core.api.Controller;
+import mindescape.controller.core.api.ControllerMap;
+import mindescape.controller.core.api.ControllerName;
+import mindescape.controller.core.api.ControllerPreloader;
+import mindescape.model.api.Model;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class ControllerPreloaderImplTest {
+
+    private final ControllerMap controllers = new ControllerMapImpl();
+    private final EnigmaPasswordModelImpl drawer = new EnigmaPasswordModelImpl("Drawer", "12-13");
+    private final EnigmaPasswordModelImpl wardrobe = new EnigmaPasswordModelImpl("Wardrobe", "1234");
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        final Room room = new RoomImpl("bedroom", "bedroom.tmx", new Dimensions(320, 320));
+        room.addGameObject(new UnpickableWithEnigmaImpl("Drawer", new Point2D(64, 64), Dimensions.TILE, drawer, null));
+        room.addGameObject(new UnpickableWithEnigmaImpl("Wardrobe", new Point2D(128, 64), Dimensions.TILE, wardrobe, null));
+        final Player player = new PlayerImpl(new Point2D(32, 32), "preloaderTest", Dimensions.TILE, room);
+        room.addGameObject(player);
+        world = new WorldImpl(new ArrayList<>(List.of(room)), player);
+    }
+
+    @Test
+    void testUnsolvedEnigmasArePreloaded() throws InterruptedException, InvocationTargetException {
+        wardrobe.hit("1234");
+        final CountDownLatch built = new CountDownLatch(1);
+        try (ControllerPreloader preloader = new ControllerPreloaderImpl(controllers,
+                (name, enigma) -> build(name, enigma, built), () -> null)) {
+            preloader.warmUp(world);
+            await(built);
+            synchronized (controllers) {
+                assertTrue(controllers.containsController(ControllerName.DRAWER));
+                assertFalse(controllers.containsController(ControllerName.WARDROBE));
+            }
+        }
+    }
+
+    @Test
+    void testSolvedEnigmasAreEvicted() throws InterruptedException, InvocationTargetException {
+        final CountDownLatch built = new CountDownLatch(2);
+        try (ControllerPreloader preloader = new ControllerPreloaderImpl(controllers,
+                (name, enigma) -> build(name, enigma, built), () -> null)) {
+            preloader.warmUp(world);
+            await(built);
+            drawer.hit("12-13");
+            synchronized (controllers) {
+                assertFalse(controllers.containsController(ControllerName.DRAWER));
+                assertTrue(controllers.containsController(ControllerName.WARDROBE));
+            }
+        }
+    }
+
+    @Test
+    void testShownControllerIsNotEvicted() throws InterruptedException, InvocationTargetException {
+        final CountDownLatch built = new CountDownLatch(2);
+        try (ControllerPreloader preloader = new ControllerPreloaderImpl(controllers,
+                (name, enigma) -> build(name, enigma, built),
+                () -> controllers.findController(ControllerName.DRAWER))) {
+            preloader.warmUp(world);
+            await(built);
+            drawer.hit("12-13");
+            synchronized (controllers) {
+                assertTrue(controllers.containsController(ControllerName.DRAWER));
+            }
+        }
+    }
+
+    @Test
+    void testCapacityIsBounded() throws InterruptedException, InvocationTargetException {
+        final CountDownLatch built = new CountDownLatch(2);
+        try (ControllerPreloader preloader = new ControllerPreloaderImpl(controllers, name -> { },
+                (name, enigma) -> build(name, enigma, built), () -> null, 1)) {
+            preloader.warmUp(world);
+            await(built);
+            synchronized (controllers) {
+                // the objects of a room are not ordered, so either controller may be the last one built
+                assertTrue(controllers.containsController(ControllerName.DRAWER)
+                    ^ controllers.containsController(ControllerName.WARDROBE));
+            }
+        }
+    }
+
+    private static Controller build(final ControllerName name, final Enigma enigma, final CountDownLatch built) {
+        assertTrue(SwingUtilities.isEventDispatchThread());
+        built.countDown();
+        return new FakeController(name.getName(), enigma);
+    }
+
+    /**
+     * Waits for the controllers to be built, and added to the map by the Event Dispatch Thread.
+     */
+    private static void await(final CountDownLatch built) throws InterruptedException, InvocationTargetException {
+        assertTrue(built.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    /**
+     * A controller without a view.
+     */
+    private record FakeController(String name, Enigma enigma) implements Controller {
+
+        @Override
+        public void handleInput(final Object input) {
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public JPanel getPanel() {
+            return null;
+        }
+
+        @Override
+        public void quit() {
+        }
+
+        @Override
+        public boolean canSave() {
+            return false;
+        }
+
+        @Override
+        public Model getModel() {
+            return (Model) enigma;
+        }
+
+        @Override
+        public void start() {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package mindescape.controller.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import mindescape.controller.core.api.GameLoop;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class GameLoopImplTest {
+
+    @Test
+    void testLifecycle() throws InterruptedException {
+        final CountDownLatch ticked = new CountDownLatch(3);
+        final GameLoop loop = new GameLoopImpl(ticked::countDown, lag -> { }, 200, 200);
+        assertEquals(GameLoop.State.NEW, loop.getState());
+        loop.start();
+        assertTrue(ticked.await(5, TimeUnit.SECONDS));
+        assertEquals(1, GameLoopImpl.getActiveLoops());
+        loop.pause();
+        assertEquals(GameLoop.State.PAUSED, loop.getState());
+        loop.start();
+        assertEquals(GameLoop.State.RUNNING, loop.getState());
+        loop.stop();
+        assertEquals(GameLoop.State.STOPPED, loop.getState());
+        assertEquals(0, GameLoopImpl.getActiveLoops());
+        assertThrows(IllegalStateException.class, loop::start);
+    }
+
+    @Test
+    void testTasksRunOnTheLoopWhilePaused() throws InterruptedException, ExecutionException, TimeoutException {
+        final AtomicInteger ticks = new AtomicInteger();
+        final AtomicReference<Thread> loopThread = new AtomicReference<>();
+        final CountDownLatch ticked = new CountDownLatch(1);
+        final GameLoop loop = new GameLoopImpl(() -> {
+            loopThread.set(Thread.currentThread());
+            ticks.incrementAndGet();
+            ticked.countDown();
+        }, lag -> { }, 200, 200);
+        loop.start();
+        assertTrue(ticked.await(5, TimeUnit.SECONDS));
+        loop.pause();
+        final int paused = loop.runOnLoop(ticks::get).get(5, TimeUnit.SECONDS);
+        assertEquals(loopThread.get(), loop.runOnLoop(Thread::currentThread).get(5, TimeUnit.SECONDS));
+        assertEquals(paused, ticks.get());
+        loop.stop();
+        assertEquals(Thread.currentThread(), loop.runOnLoop(Thread::currentThread).get(5, TimeUnit.SECONDS));
+    }
+}
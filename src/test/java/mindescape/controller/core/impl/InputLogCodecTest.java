@@ -0,0 +1,39 @@
+package mindescape.controller.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import mindescape.controller.core.api.InputEvent;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.UserInput;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class InputLogCodecTest {
+
+    private final InputRecording recording = new InputRecording(100_000, List.of(
+        new InputEvent(0, UserInput.RIGHT, InputEvent.Action.PRESS),
+        new InputEvent(12, UserInput.RIGHT, InputEvent.Action.RELEASE),
+        new InputEvent(12, UserInput.INTERACT, InputEvent.Action.QUEUE),
+        new InputEvent(99_999, UserInput.INVENTORY, InputEvent.Action.QUEUE)),
+        Map.of("Puzzle", -42L));
+
+    @Test
+    void testRoundTrip() {
+        final ByteBuffer log = InputLogCodec.encode(recording);
+        assertEquals(recording, InputLogCodec.decode(log));
+        // magic, version, length, count and seed, count and events of two bytes each but the last one
+        assertEquals(4 + 1 + 3 + 1 + 8 + 1 + 2 * 3 + 4, log.remaining());
+    }
+
+    @Test
+    void testInvalidLogs() {
+        assertThrows(IllegalArgumentException.class, () -> InputLogCodec.decode(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5})));
+        final ByteBuffer log = InputLogCodec.encode(recording);
+        log.limit(log.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> InputLogCodec.decode(log));
+    }
+}
@@ -0,0 +1,125 @@
+package mindescape.controller.worldcontroller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.InputRecording;
+import mindescape.controller.core.api.InputScript;
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.InputBufferImpl;
+import mindescape.controller.core.impl.InputLogCodec;
+import mindescape.controller.core.impl.InputRecorderImpl;
+import mindescape.controller.core.impl.InputScriptImpl;
+import mindescape.controller.worldcontroller.api.HeadlessRuntime;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class HeadlessRuntimeImplTest {
+
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        final Room room = new RoomImpl("bedroom", "bedroom.tmx", new Dimensions(320, 320));
+        final Player player = new PlayerImpl(new Point2D(32, 32), "headlessTest", Dimensions.TILE, room);
+        room.addGameObject(player);
+        world = new WorldImpl(new ArrayList<>(List.of(room)), player);
+    }
+
+    @Test
+    void testScriptDrivesTheWorld() {
+        final InputScript script = InputScriptImpl.parse(List.of(
+            "# right for 10 ticks, then down for 5",
+            "0 press RIGHT",
+            "10 release RIGHT",
+            "",
+            "10 press down",
+            "15 release down"));
+        final HeadlessRuntime.Result result = new HeadlessRuntimeImpl(world).run(script);
+        assertEquals(16, result.ticks());
+        assertFalse(result.won());
+        assertEquals(42.0, world.getPlayer().getX());
+        assertEquals(37.0, world.getPlayer().getY());
+        assertEquals(Duration.ofSeconds(1).dividedBy(60).multipliedBy(16), world.getPlayTime());
+    }
+
+    @Test
+    void testRunIsBoundedByMaxTicks() {
+        final InputScript script = InputScriptImpl.parse(List.of("0 press RIGHT"));
+        assertEquals(100, new HeadlessRuntimeImpl(world).run(script, 100).ticks());
+        assertEquals(132.0, world.getPlayer().getX());
+    }
+
+    @Test
+    void testRecordedSessionIsReplayed() {
+        final InputBuffer input = new InputBufferImpl();
+        final WorldSimulation simulation = new WorldSimulation(world, input, Duration.ofMillis(10), enigma -> { }, () -> { });
+        input.press(UserInput.DOWN);
+        simulation.step();
+        simulation.record(new InputRecorderImpl());
+        for (int tick = 0; tick < 30; tick++) {
+            if (tick == 5) {
+                input.press(UserInput.RIGHT);
+            } else if (tick == 12) {
+                input.release(UserInput.DOWN);
+            } else if (tick == 20) {
+                input.release(UserInput.RIGHT);
+                input.press(UserInput.INTERACT);
+            }
+            simulation.step();
+        }
+        final InputRecording recording = InputLogCodec.decode(InputLogCodec.encode(simulation.stopRecording()));
+        assertEquals(30, recording.length());
+
+        setUp();
+        world.getPlayer().setPosition(new Point2D(32, 33));
+        final HeadlessRuntime.Result result = new HeadlessRuntimeImpl(world).replay(recording);
+        assertEquals(30, result.ticks());
+        assertEquals(47.0, world.getPlayer().getX());
+        assertEquals(45.0, world.getPlayer().getY());
+    }
+
+    @Test
+    void testInteractionWhileHoldingIsReplayed() {
+        final InputBuffer input = new InputBufferImpl();
+        final WorldSimulation simulation = new WorldSimulation(world, input, Duration.ofMillis(10), enigma -> { }, () -> { });
+        simulation.record(new InputRecorderImpl());
+        input.press(UserInput.RIGHT);
+        for (int tick = 0; tick < 20; tick++) {
+            if (tick == 5) {
+                input.press(UserInput.INTERACT);
+            } else if (tick == 6) {
+                input.press(UserInput.RIGHT);
+            }
+            simulation.step();
+        }
+        final double recordedX = world.getPlayer().getX();
+        final InputRecording recording = InputLogCodec.decode(InputLogCodec.encode(simulation.stopRecording()));
+
+        setUp();
+        new HeadlessRuntimeImpl(world).replay(recording);
+        assertEquals(recordedX, world.getPlayer().getX());
+        assertEquals(52.0, recordedX);
+    }
+
+    @Test
+    void testInvalidScript() {
+        assertThrows(IllegalArgumentException.class, () -> InputScriptImpl.parse(List.of("0 hold RIGHT")));
+        assertThrows(IllegalArgumentException.class, () -> InputScriptImpl.parse(List.of("-1 press RIGHT")));
+        assertThrows(IllegalArgumentException.class, () -> InputScriptImpl.parse(List.of("0 press JUMP")));
+    }
+}
@@ -0,0 +1,97 @@
+package mindescape.controller.worldcontroller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.controller.core.api.InputBuffer;
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.InputBufferImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.noninteractable.impl.NonInteractableImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.view.api.WorldView;
+import mindescape.view.world.WorldViewImpl;
+
+/**
+ * Checks that a tick of the game, i.e. a step of the {@link WorldSimulation} and the update of the view,
+ * does not allocate while the player walks.
+ */
+final class WorldSimulationAllocationTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    private static final int STEPS = 64;
+    private static final int WARMUP_ROUNDS = 2000;
+    private static final int MEASURED_ROUNDS = 1000;
+    private World world;
+    private InputBuffer input;
+    private WorldSimulation simulation;
+    private WorldView view;
+
+    @BeforeEach
+    void setUp() {
+        final URL map = getClass().getClassLoader().getResource("rooms/bedroom.tmx");
+        assertNotNull(map);
+        final Room room = new RoomImpl("corridor", map.getPath(), new Dimensions(256, 256));
+        for (int x = 0; x < 256; x += 16) {
+            room.addGameObject(new NonInteractableImpl(new Point2D(x, 0), "wall", Dimensions.TILE));
+            room.addGameObject(new NonInteractableImpl(new Point2D(x, 64), "wall", Dimensions.TILE));
+        }
+        final Player player = new PlayerImpl(new Point2D(16, 32), "player", Dimensions.TILE, room);
+        room.addGameObject(player);
+        final List<Room> rooms = new ArrayList<>();
+        rooms.add(room);
+        world = new WorldImpl(rooms, player);
+        input = new InputBufferImpl();
+        simulation = new WorldSimulation(world, input, Duration.ofMillis(10), enigma -> { }, () -> { });
+        view = new WorldViewImpl(room, player, input);
+    }
+
+    @Test
+    void testWalkingDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            walk();
+        }
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            walk();
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertEquals(new Point2D(16, 32), world.getPlayer().getPosition());
+        assertEquals(0L, allocated);
+    }
+
+    /**
+     * Walks right and back along the corridor, one step per tick.
+     */
+    private void walk() {
+        hold(UserInput.RIGHT);
+        hold(UserInput.LEFT);
+    }
+
+    private void hold(final UserInput direction) {
+        input.press(direction);
+        for (int i = 0; i < STEPS; i++) {
+            simulation.step();
+            view.update(world.getCurrentRoom(), world.getPlayer());
+        }
+        input.release(direction);
+    }
+}
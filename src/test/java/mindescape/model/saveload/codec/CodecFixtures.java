@@ -0,0 +1,43 @@
+package mindescape.model.saveload.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Helpers shared by the tests of the codecs.
+ */
+final class CodecFixtures {
+
+    private CodecFixtures() {
+    }
+
+    /**
+     * Encodes something to a buffer.
+     *
+     * @param encoder writes what is encoded to the output
+     * @return the buffer, ready to be read
+     */
+    static ByteBuffer encode(final Consumer<SaveOutput> encoder) {
+        final SaveOutput out = new SaveOutput();
+        encoder.accept(out);
+        return out.toByteBuffer();
+    }
+
+    /**
+     * Finds the first object of a room of the given type.
+     *
+     * @param <T> the type of the object
+     * @param room the room
+     * @param type the class of the object
+     * @return the object
+     * @throws java.util.NoSuchElementException if the room has no object of that type
+     */
+    static <T> T find(final Room room, final Class<T> type) {
+        return room.getGameObjects().stream()
+            .filter(type::isInstance)
+            .map(type::cast)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+package mindescape.model.saveload.codec;
+
+import static mindescape.model.saveload.codec.CodecFixtures.find;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMode;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.impl.DoorImpl;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class DeltaCodecTest {
+
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        final List<Room> rooms = maps();
+        final Room bedroom = rooms.get(0);
+        final Room kitchen = rooms.get(1);
+        final Player player = new PlayerImpl(new Point2D(40, 72), "tester", Dimensions.TILE, kitchen);
+        kitchen.addGameObject(player);
+        world = new WorldImpl(rooms, player);
+        find(bedroom, DoorLockedWithEnigma.class).getEnigma().hit("12-13");
+        final PickableImpl note = find(bedroom, PickableImpl.class);
+        bedroom.removeGameObject(note);
+        player.getInventory().addItems(note);
+        final LockedUnpickable chest = find(bedroom, LockedUnpickable.class);
+        chest.setUnlocked(true);
+        player.getInventory().addItems(chest.getReward());
+        ((EnigmaPuzzleModelImpl) find(kitchen, UnpickableWithEnigmaImpl.class).getEnigma()).swapPieces(0, 5);
+    }
+
+    @Test
+    void testPlayerAndInventory() {
+        final World loaded = decode(encode(world));
+        assertEquals("tester", loaded.getPlayer().getName());
+        assertEquals(new Point2D(40, 72), loaded.getPlayer().getPosition());
+        assertEquals("kitchen", loaded.getCurrentRoom().getName());
+        final Set<String> items = loaded.getPlayer().getInventory().getItems().stream()
+            .map(Pickable::getName)
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("Bed note", "Key"), items);
+        assertFalse(loaded.getRooms().get(0).getGameObjects().stream().anyMatch(PickableImpl.class::isInstance));
+    }
+
+    @Test
+    void testUnlockedAndEnigmas() {
+        final World loaded = decode(encode(world));
+        final Room bedroom = loaded.getRooms().get(0);
+        assertTrue(find(bedroom, DoorLockedWithEnigma.class).isUnlocked());
+        assertTrue(find(bedroom, LockedUnpickable.class).isUnlocked());
+        final EnigmaPuzzleModelImpl puzzle = (EnigmaPuzzleModelImpl) find(loaded.getRooms().get(1),
+            UnpickableWithEnigmaImpl.class).getEnigma();
+        assertEquals(Integer.valueOf(5), puzzle.getPiece(0, 0));
+        assertEquals(Integer.valueOf(0), puzzle.getPiece(1, 1));
+    }
+
+    @Test
+    void testSurvivesMapEdits() {
+        final ByteBuffer save = encode(world);
+        final World loaded = DeltaCodec.decode(new SaveInput(save), () -> {
+            final List<Room> rooms = maps();
+            rooms.get(0).removeGameObject(find(rooms.get(0), LockedUnpickable.class));
+            return rooms;
+        });
+        assertTrue(find(loaded.getRooms().get(0), DoorLockedWithEnigma.class).isUnlocked());
+        assertEquals(2, loaded.getPlayer().getInventory().getItems().size());
+    }
+
+    @Test
+    void testSmallerThanFullSave() throws IOException {
+        final long delta = fileSize(SaveManager.snapshot(world, SaveMode.DELTA));
+        assertTrue(delta < fileSize(SaveManager.snapshot(world, SaveMode.FULL)));
+        // the whole file, preview included
+        assertTrue(delta < 512, "Delta save of " + delta + " bytes");
+    }
+
+    /**
+     * Builds the same rooms every time, as loading the maps of the game would.
+     */
+    private static List<Room> maps() {
+        final Dimensions size = new Dimensions(320, 320);
+        final Room bedroom = new RoomImpl("bedroom", "bedroom.tmx", size);
+        final Room kitchen = new RoomImpl("kitchen", "kitchen.tmx", size);
+        final DoorImpl door = new DoorImpl(new Point2D(0, 16), "door", Dimensions.TILE, kitchen, new Point2D(32, 48));
+        bedroom.addGameObject(new DoorLockedWithEnigma(door, new EnigmaPasswordModelImpl("Drawer", "12-13")));
+        bedroom.addGameObject(new LockedUnpickable("Chest", new Point2D(64, 64), Dimensions.TILE, 1,
+            new PickableImpl(null, "Key", Dimensions.TILE, "The key to the last room", 4)));
+        bedroom.addGameObject(new PickableImpl(new Point2D(96, 32), "Bed note", Dimensions.TILE, "3 is the magic number", 1));
+        kitchen.addGameObject(new UnpickableWithEnigmaImpl("Table", new Point2D(96, 96), Dimensions.TILE,
+            new EnigmaPuzzleModelImpl(4, 4, "Puzzle"), null));
+        return new ArrayList<>(List.of(bedroom, kitchen));
+    }
+
+    /**
+     * Writes a save file as SaveManager does, in a temporary file, and returns its size.
+     */
+    private static long fileSize(final SaveSnapshot snapshot) throws IOException {
+        final Path file = Files.createTempFile("delta", ".sav");
+        try {
+            final ByteBuffer content = SaveManager.encode(snapshot);
+            Files.write(file, Arrays.copyOfRange(content.array(), content.position(), content.limit()));
+            return Files.size(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static ByteBuffer encode(final World world) {
+        return CodecFixtures.encode(out -> DeltaCodec.encode(world, out));
+    }
+
+    private static World decode(final ByteBuffer buffer) {
+        return DeltaCodec.decode(new SaveInput(buffer), DeltaCodecTest::maps);
+    }
+}
@@ -0,0 +1,76 @@
+package mindescape.model.saveload.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.Thumbnail;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class PreviewCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        final short[] pixels = new short[64 * 48];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = (short) (i * 31);
+        }
+        final SavePreview preview = new SavePreview("tester", "kitchen", 3, 2, 1_700_000_000_000L,
+            Duration.ofMinutes(75), new Thumbnail(64, 48, pixels));
+        final ByteBuffer data = encode(preview);
+        assertEquals(data.remaining(), PreviewCodec.blockSize(data));
+        assertEquals(Optional.of(preview), PreviewCodec.decode(data));
+        assertEquals(0, data.position());
+    }
+
+    @Test
+    void testBlockIsSizedToItsContent() {
+        final ByteBuffer data = encode(new SavePreview("tester", "bedroom", 0, 0, 0, Duration.ZERO, null));
+        assertTrue(data.remaining() < 64);
+        assertEquals(data.remaining(), PreviewCodec.blockSize(data.slice().limit(PreviewCodec.PREFIX_SIZE)));
+    }
+
+    @Test
+    void testUnknownVersion() {
+        final ByteBuffer block = encode(new SavePreview("tester", "kitchen", 1, 0, 0, Duration.ZERO, null));
+        // the version follows the four magic bytes
+        block.put(4, (byte) 1);
+        assertThrows(CorruptSaveException.class, () -> PreviewCodec.blockSize(block));
+        assertThrows(CorruptSaveException.class, () -> PreviewCodec.decode(block));
+        assertThrows(CorruptSaveException.class, () -> PreviewCodec.skip(block));
+    }
+
+    @Test
+    void testTooLargeThumbnailIsDropped() {
+        final SavePreview preview = new SavePreview("tester", "kitchen", 0, 0, 0, Duration.ZERO,
+            new Thumbnail(128, 96, new short[128 * 96]));
+        final SavePreview decoded = PreviewCodec.decode(encode(preview)).orElseThrow();
+        assertEquals("kitchen", decoded.room());
+        assertTrue(decoded.getThumbnail().isEmpty());
+    }
+
+    @Test
+    void testSkip() {
+        final SaveOutput out = new SaveOutput();
+        PreviewCodec.encode(new SavePreview("tester", "bedroom", 0, 0, 0, Duration.ZERO, null), out);
+        SaveFormat.writeDeltaHeader(out);
+        final ByteBuffer data = out.toByteBuffer();
+        assertTrue(PreviewCodec.hasPreview(data));
+        final int size = PreviewCodec.blockSize(data);
+        PreviewCodec.skip(data);
+        assertEquals(size, data.position());
+        assertTrue(SaveFormat.isDelta(data));
+        assertFalse(PreviewCodec.hasPreview(data));
+        assertEquals(Optional.empty(), PreviewCodec.decode(data));
+    }
+
+    private static ByteBuffer encode(final SavePreview preview) {
+        return CodecFixtures.encode(out -> PreviewCodec.encode(preview, out));
+    }
+}
@@ -0,0 +1,116 @@
+package mindescape.model.saveload.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static mindescape.model.saveload.codec.CodecFixtures.find;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.enigma.enigmapuzzle.impl.EnigmaPuzzleModelImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.impl.DoorImpl;
+import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
+import mindescape.model.world.items.interactable.impl.LockedUnpickable;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class WorldCodecTest {
+
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        final Dimensions size = new Dimensions(320, 320);
+        final Room bedroom = new RoomImpl("bedroom", "bedroom.tmx", size);
+        final Room kitchen = new RoomImpl("kitchen", "kitchen.tmx", size);
+        final EnigmaPasswordModelImpl drawer = new EnigmaPasswordModelImpl("Drawer", "12-13");
+        drawer.hit("12-13");
+        final DoorImpl door = new DoorImpl(new Point2D(0, 16), "door", Dimensions.TILE, kitchen, new Point2D(32, 48));
+        bedroom.addGameObject(new DoorLockedWithEnigma(door, drawer));
+        final Pickable reward = new PickableImpl(null, "Key", null, "Opens the mirror", 2);
+        bedroom.addGameObject(new LockedUnpickable("Chest", new Point2D(64, 64), Dimensions.TILE, 1, reward));
+        final EnigmaPuzzleModelImpl puzzle = new EnigmaPuzzleModelImpl(4, 4, "Puzzle");
+        puzzle.swapPieces(0, 15);
+        kitchen.addGameObject(new UnpickableWithEnigmaImpl("Table", new Point2D(96, 96), Dimensions.TILE, puzzle, null));
+        final Player player = new PlayerImpl(new Point2D(100.5, 42.25), "tester", Dimensions.TILE, bedroom);
+        player.getInventory().addItems(reward);
+        bedroom.addGameObject(player);
+        world = new WorldImpl(List.of(bedroom, kitchen), player);
+    }
+
+    @Test
+    void testRoundTrip() {
+        final World loaded = decode(encode(world));
+        assertEquals(2, loaded.getRooms().size());
+        assertEquals("tester", loaded.getPlayer().getName());
+        assertEquals(new Point2D(100.5, 42.25), loaded.getPlayer().getPosition());
+        assertEquals("bedroom", loaded.getCurrentRoom().getName());
+        assertTrue(loaded.getCurrentRoom().isPlayerPresent());
+        for (int i = 0; i < world.getRooms().size(); i++) {
+            assertEquals(world.getRooms().get(i).getGameObjects().size(), loaded.getRooms().get(i).getGameObjects().size());
+        }
+    }
+
+    @Test
+    void testReferencesAreShared() {
+        final World loaded = decode(encode(world));
+        final Room bedroom = loaded.getRooms().get(0);
+        final DoorLockedWithEnigma door = find(bedroom, DoorLockedWithEnigma.class);
+        assertTrue(door.isUnlocked());
+        assertSame(loaded.getRooms().get(1), ((DoorImpl) door.getBaseDoor()).getDestinationRoom());
+        final LockedUnpickable chest = find(bedroom, LockedUnpickable.class);
+        assertSame(chest.getReward(), loaded.getPlayer().getInventory().getItems().iterator().next());
+        assertEquals("Opens the mirror", chest.getReward().getDescription());
+    }
+
+    @Test
+    void testEnigmaState() {
+        final World loaded = decode(encode(world));
+        final UnpickableWithEnigmaImpl table = find(loaded.getRooms().get(1), UnpickableWithEnigmaImpl.class);
+        final EnigmaPuzzleModelImpl puzzle = (EnigmaPuzzleModelImpl) table.getEnigma();
+        assertFalse(puzzle.isSolved());
+        assertArrayEquals(((EnigmaPuzzleModelImpl) find(world.getRooms().get(1), UnpickableWithEnigmaImpl.class)
+            .getEnigma()).getPieces(), puzzle.getPieces());
+    }
+
+    @Test
+    void testCorruptSave() {
+        final ByteBuffer save = encode(world);
+        save.limit(save.limit() - 3);
+        assertThrows(CorruptSaveException.class, () -> decode(save));
+        assertFalse(SaveFormat.isBinary(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    }
+
+    @Test
+    void testUnknownWireType() {
+        final ByteBuffer save = encode(world);
+        // the tag of the first record follows the magic bytes and the version
+        final int tag = 4 + 1;
+        save.put(tag, (byte) (save.get(tag) & ~0b111 | 0b101));
+        assertThrows(CorruptSaveException.class, () -> decode(save));
+    }
+
+    private static ByteBuffer encode(final World world) {
+        return CodecFixtures.encode(out -> WorldCodec.encode(world, out));
+    }
+
+    private static World decode(final ByteBuffer buffer) {
+        return WorldCodec.decode(new SaveInput(buffer));
+    }
+}
@@ -0,0 +1,92 @@
+package mindescape.model.saveload.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.model.enigma.enigmapassword.impl.EnigmaPasswordModelImpl;
+import mindescape.model.saveload.api.CheckpointScheduler;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.impl.UnpickableWithEnigmaImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class CheckpointSchedulerImplTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private final List<String> saved = new ArrayList<>();
+    private final EnigmaPasswordModelImpl drawer = new EnigmaPasswordModelImpl("Drawer", "12-13");
+    private CheckpointScheduler checkpoints;
+
+    @BeforeEach
+    void setUp() {
+        final Room room = new RoomImpl("bedroom", "bedroom.tmx", new Dimensions(320, 320));
+        room.addGameObject(new UnpickableWithEnigmaImpl("Drawer", new Point2D(64, 64), Dimensions.TILE, drawer, null));
+        final Player player = new PlayerImpl(new Point2D(32, 32), "checkpointTest", Dimensions.TILE, room);
+        room.addGameObject(player);
+        final World world = new WorldImpl(new ArrayList<>(List.of(room)), player);
+        checkpoints = new CheckpointSchedulerImpl(world, new RecordingService(), Duration.ofSeconds(10), 2);
+    }
+
+    @Test
+    void testCheckpointsAtIntervals() {
+        checkpoints.tick(0);
+        checkpoints.tick(9 * SECOND);
+        assertEquals(0, saved.size());
+        checkpoints.tick(10 * SECOND);
+        checkpoints.tick(15 * SECOND);
+        checkpoints.tick(20 * SECOND);
+        checkpoints.tick(30 * SECOND);
+        assertEquals(List.of("checkpointTest.checkpoint-0", "checkpointTest.checkpoint-1",
+            "checkpointTest.checkpoint-0"), saved);
+    }
+
+    @Test
+    void testCheckpointOnKeyEvent() {
+        checkpoints.tick(0);
+        drawer.hit("12-13");
+        checkpoints.tick(SECOND);
+        assertEquals(1, saved.size());
+        checkpoints.tick(2 * SECOND);
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    void testNoCheckpointAfterClose() {
+        checkpoints.tick(0);
+        checkpoints.close();
+        drawer.hit("12-13");
+        checkpoints.tick(SECOND);
+        checkpoints.tick(20 * SECOND);
+        assertEquals(0, saved.size());
+    }
+
+    /**
+     * Records the names of the saves, completing them right away.
+     */
+    private final class RecordingService implements SaveService {
+
+        @Override
+        public CompletableFuture<Path> save(final SaveSnapshot snapshot, final String name) {
+            saved.add(name);
+            return CompletableFuture.completedFuture(Path.of(name));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package mindescape.model.saveload.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.model.saveload.api.SaveCatalog;
+import mindescape.model.saveload.api.SaveEntry;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class SaveCatalogImplTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("saves");
+        save("old", 1_000);
+        save("new", 2_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (final Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void testRebuildsFromFolder() {
+        try (SaveCatalog catalog = new SaveCatalogImpl(directory)) {
+            assertEquals(List.of("new", "old"), names(catalog));
+            assertEquals(5, catalog.getEntries().get(0).size());
+        }
+    }
+
+    @Test
+    void testRecordedEntriesArePersisted() throws IOException {
+        try (SaveCatalog catalog = new SaveCatalogImpl(directory)) {
+            final Path file = save("recorded", 3_000);
+            catalog.record(new SaveEntry("recorded", file, 3_000, "kitchen", Duration.ofMinutes(12), 5));
+            assertEquals("recorded", catalog.getEntries().get(0).name());
+        }
+        try (SaveCatalog catalog = new SaveCatalogImpl(directory)) {
+            final SaveEntry entry = catalog.getEntries().get(0);
+            assertEquals("kitchen", entry.room());
+            assertEquals(Duration.ofMinutes(12), entry.playTime());
+            assertEquals(directory.resolve("recorded.sav"), entry.file());
+        }
+    }
+
+    @Test
+    void testFollowsExternalChanges() throws IOException, InterruptedException {
+        try (SaveCatalog catalog = new SaveCatalogImpl(directory)) {
+            Files.delete(directory.resolve("old.sav"));
+            save("external", 4_000);
+            assertTrue(eventually(() -> names(catalog).equals(List.of("external", "new"))));
+        }
+    }
+
+    private Path save(final String name, final long timestamp) throws IOException {
+        final Path file = directory.resolve(name + ".sav");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5});
+        Files.setLastModifiedTime(file, FileTime.fromMillis(timestamp));
+        return file;
+    }
+
+    private static List<String> names(final SaveCatalog catalog) {
+        return catalog.getEntries().stream().map(SaveEntry::name).toList();
+    }
+
+    private static boolean eventually(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+}
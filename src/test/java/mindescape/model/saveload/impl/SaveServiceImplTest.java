@@ -0,0 +1,74 @@
+package mindescape.model.saveload.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.api.SavePreview;
+import mindescape.model.saveload.api.SaveSnapshot;
+import mindescape.model.saveload.codec.SaveOutput;
+
+final class SaveServiceImplTest {
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testSavesAreWrittenInOrder() throws InterruptedException, ExecutionException {
+        try (SaveService service = new SaveServiceImpl(this::write)) {
+            final CompletableFuture<Path> first = service.save(snapshot("first"));
+            final CompletableFuture<Path> second = service.save(snapshot("second"));
+            assertEquals(Path.of("second.sav"), second.get());
+            assertTrue(first.isDone());
+        }
+        assertEquals(List.of("first", "second"), written);
+    }
+
+    @Test
+    void testCloseWaitsForPendingSaves() {
+        final SaveService service = new SaveServiceImpl(this::write);
+        final CompletableFuture<Path> pending = service.save(snapshot("pending"));
+        service.close();
+        assertTrue(pending.isDone());
+        assertThrows(IllegalStateException.class, () -> service.save(snapshot("late")));
+    }
+
+    @Test
+    void testFailuresCompleteExceptionally() {
+        try (SaveService service = new SaveServiceImpl((snapshot, name) -> {
+            throw new IllegalStateException("Disk full");
+        })) {
+            assertThrows(ExecutionException.class, () -> service.save(snapshot("failed")).get());
+        }
+    }
+
+    private Path write(final SaveSnapshot snapshot, final String name) {
+        written.add(name);
+        return Path.of(name + ".sav");
+    }
+
+    private static SaveSnapshot snapshot(final String username) {
+        return new SaveSnapshot() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public SavePreview getPreview() {
+                return new SavePreview(username, "bedroom", 0, 0, 0, Duration.ZERO, null);
+            }
+
+            @Override
+            public void encode(final SaveOutput out) {
+                out.writeString(1, username);
+            }
+        };
+    }
+}
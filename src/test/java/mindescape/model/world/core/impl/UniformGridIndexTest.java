@@ -0,0 +1,59 @@
+package mindescape.model.world.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+
+/**
+ * Test class for {@link UniformGridIndex}.
+ */
+final class UniformGridIndexTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    private SpatialIndex index;
+    private GameObject near;
+    private GameObject far;
+    private GameObject large;
+
+    @BeforeEach
+    void setUp() {
+        index = new UniformGridIndex(new Dimensions(256, 256), Dimensions.TILE);
+        near = new GameObjectImpl(new Point2D(16, 16), "near", Dimensions.TILE);
+        far = new GameObjectImpl(new Point2D(200, 200), "far", Dimensions.TILE);
+        large = new GameObjectImpl(new Point2D(0, 100), "large", new Dimensions(256, 32));
+        index.insert(near);
+        index.insert(far);
+        index.insert(large);
+    }
+
+    @Test
+    void testQueryReturnsOnlyNearbyObjects() {
+        final var result = index.query(new Point2D(20, 20), Dimensions.TILE);
+        assertTrue(result.contains(near));
+        assertFalse(result.contains(far));
+        assertFalse(result.contains(large));
+    }
+
+    @Test
+    void testObjectSpanningManyCells() {
+        assertTrue(index.query(new Point2D(0, 110), Dimensions.TILE).contains(large));
+        assertTrue(index.query(new Point2D(240, 110), Dimensions.TILE).contains(large));
+        assertEquals(1, index.query(new Point2D(120, 105), new Dimensions(64, 8)).size());
+    }
+
+    @Test
+    void testRemove() {
+        index.remove(near);
+        assertFalse(index.query(new Point2D(20, 20), Dimensions.TILE).contains(near));
+        index.clear();
+        assertTrue(index.query(new Point2D(0, 0), new Dimensions(256, 256)).isEmpty());
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
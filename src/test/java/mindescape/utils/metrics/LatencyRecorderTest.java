@@ -0,0 +1,43 @@
+package mindescape.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+// CHECKSTYLE: MagicNumber OFF
+// Magic numbers in a test are acceptable
+final class LatencyRecorderTest {
+
+    @Test
+    void testPercentilesAreWithinTheBucketPrecision() {
+        final LatencyRecorder recorder = new LatencyRecorder("test");
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            recorder.record(nanos * 1000);
+        }
+        assertEquals(100_000, recorder.getCount());
+        assertEquals(50_000.5, recorder.getMeanMicros(), 1e-6);
+        assertEquals(100_000, recorder.getMaxMicros(), 1e-6);
+        assertWithin(50_000, recorder.getP50Micros());
+        assertWithin(99_000, recorder.getP99Micros());
+        assertWithin(99_900, recorder.getP999Micros());
+        assertEquals(100_000_000, recorder.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testSmallAndHugeValues() {
+        final LatencyRecorder recorder = new LatencyRecorder("test");
+        recorder.record(-5);
+        recorder.record(7);
+        recorder.record(Long.MAX_VALUE);
+        assertEquals(0, recorder.getValueAtPercentile(0));
+        assertEquals(7, recorder.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, recorder.getValueAtPercentile(100));
+        recorder.reset();
+        assertEquals(0, recorder.getCount());
+        assertEquals(0, recorder.getValueAtPercentile(99));
+    }
+
+    private static void assertWithin(final double expected, final double actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, actual + " is not close to " + expected);
+    }
+}